@@ -0,0 +1,119 @@
+package com.framework.benchmark.jmh;
+
+import com.framework.container.BeanContainer;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH des accès au container : singletons par ID et par type (aussi depuis
+ * tous les cœurs à la fois), création de prototypes selon le mode d'injection, comparée
+ * au même bean construit par new et appels directs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class ContainerBenchmark {
+
+    private BeanContainer container;
+    private BeanDefinition setterDefinition;
+    private Fixtures.Repository repository;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = new BeanContainer();
+        container.registerDefinition(Fixtures.repository("repository"));
+        container.registerDefinition(Fixtures.client("constructorClient", "repository"));
+        setterDefinition = Fixtures.service("setterService", InjectionMode.SETTER, "repository");
+        container.registerDefinition(setterDefinition);
+        container.registerDefinition(Fixtures.service("fieldService", InjectionMode.FIELD, "repository"));
+        container.registerComponent(Fixtures.AnnotatedService.class);
+        container.preInstantiateSingletons(Runnable::run);
+        repository = (Fixtures.Repository) container.getBean("repository");
+        container.getBean("setterService"); // Fabrique compilée avant la mesure
+    }
+
+    @Benchmark
+    public Object singletonById() {
+        return container.getBean("repository");
+    }
+
+    /**
+     * Lectures concurrentes d'un singleton existant : à comparer à singletonById
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object singletonByIdContended() {
+        return container.getBean("repository");
+    }
+
+    @Benchmark
+    public Object singletonByType() {
+        return container.getBean(Fixtures.Repository.class);
+    }
+
+    @Benchmark
+    public Object prototypeConstructor() {
+        return container.getBean("constructorClient");
+    }
+
+    /**
+     * Référence de prototypeConstructor : new avec les mêmes arguments
+     */
+    @Benchmark
+    public Object newConstructor() {
+        return new Fixtures.Client(repository, "constructorClient");
+    }
+
+    @Benchmark
+    public Object prototypeSetter() {
+        return container.getBean("setterService");
+    }
+
+    /**
+     * Fabrique compilée de setterService appelée seule, sans le suivi de getBean (métriques,
+     * pile de résolution, événements JFR) : à comparer à newSetter
+     */
+    @Benchmark
+    public Object compiledSetterFactory() throws Exception {
+        return setterDefinition.getFactory().create(container);
+    }
+
+    /**
+     * Référence de prototypeSetter : new puis les mêmes setters en appel direct
+     */
+    @Benchmark
+    public Object newSetter() {
+        Fixtures.Service service = new Fixtures.Service();
+        service.setRepository(repository);
+        service.setName("setterService");
+        service.setRetries(3);
+        return service;
+    }
+
+    @Benchmark
+    public Object prototypeField() {
+        return container.getBean("fieldService");
+    }
+
+    @Benchmark
+    public Object prototypeAnnotated() {
+        return container.getBean("annotatedService");
+    }
+}
@@ -0,0 +1,134 @@
+package com.framework.benchmark.jmh;
+
+import com.framework.annotations.Autowired;
+import com.framework.annotations.Component;
+import com.framework.annotations.Scope;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Beans et configurations des benchmarks JMH
+ * Les beans n'écrivent rien sur la sortie : seul le coût du container est mesuré
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static class Repository {
+        final String url;
+        final String user;
+        final int poolSize;
+
+        public Repository(String url, String user, int poolSize) {
+            this.url = url;
+            this.user = user;
+            this.poolSize = poolSize;
+        }
+    }
+
+    public static class Service {
+        Repository repository;
+        String name;
+        int retries;
+
+        public void setRepository(Repository repository) {
+            this.repository = repository;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setRetries(int retries) {
+            this.retries = retries;
+        }
+    }
+
+    public static class Client {
+        final Repository repository;
+        final String name;
+
+        public Client(Repository repository, String name) {
+            this.repository = repository;
+            this.name = name;
+        }
+    }
+
+    @Component("annotatedService")
+    @Scope(BeanDefinition.SCOPE_PROTOTYPE)
+    public static class AnnotatedService {
+        @Autowired
+        Repository repository;
+    }
+
+    /**
+     * Singleton "repository" (constructeur, littéraux convertis)
+     */
+    static BeanDefinition repository(String id) {
+        BeanDefinition definition = new BeanDefinition(id, Repository.class.getName());
+        definition.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        definition.addConstructorArg("jdbc:h2:mem:" + id, null, String.class);
+        definition.addConstructorArg("sa", null, String.class);
+        definition.addConstructorArg("8", null, int.class);
+        return definition;
+    }
+
+    /**
+     * Prototype Service injecté par setters ou par fields
+     */
+    static BeanDefinition service(String id, InjectionMode mode, String repository) {
+        BeanDefinition definition = new BeanDefinition(id, Service.class.getName());
+        definition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        definition.setInjectionMode(mode);
+        definition.addProperty("repository", null, repository, null);
+        definition.addProperty("name", id, null, null);
+        definition.addProperty("retries", "3", null, null);
+        return definition;
+    }
+
+    /**
+     * Prototype Client injecté par constructeur
+     */
+    static BeanDefinition client(String id, String repository) {
+        BeanDefinition definition = new BeanDefinition(id, Client.class.getName());
+        definition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        definition.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        definition.addConstructorArg(null, repository, (Class<?>) null);
+        definition.addConstructorArg(id, null, String.class);
+        return definition;
+    }
+
+    /**
+     * Configuration XML de size beans : paires repository (constructeur) / service (setters)
+     * Contenu identique d'une exécution à l'autre
+     */
+    static File generateXml(int size) throws IOException {
+        File file = File.createTempFile("jmh-beans-" + size + "-", ".xml");
+        file.deleteOnExit();
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            out.println("<beans>");
+            for (int i = 0; i < size; i += 2) {
+                out.println("    <bean id=\"repository" + i + "\" class=\"" + Repository.class.getName() + "\">");
+                out.println("        <constructor>");
+                out.println("            <arg type=\"java.lang.String\" value=\"jdbc:h2:mem:db" + i + "\"/>");
+                out.println("            <arg type=\"java.lang.String\" value=\"sa\"/>");
+                out.println("            <arg type=\"java.lang.Integer\" value=\"8\"/>");
+                out.println("        </constructor>");
+                out.println("    </bean>");
+                out.println("    <bean id=\"service" + i + "\" class=\"" + Service.class.getName() + "\">");
+                out.println("        <property name=\"repository\" ref=\"repository" + i + "\"/>");
+                out.println("        <property name=\"name\" value=\"service" + i + "\"/>");
+                out.println("        <property name=\"retries\" value=\"3\"/>");
+                out.println("    </bean>");
+            }
+            out.println("</beans>");
+        }
+        return file;
+    }
+}
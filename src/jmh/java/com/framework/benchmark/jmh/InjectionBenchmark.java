@@ -0,0 +1,113 @@
+package com.framework.benchmark.jmh;
+
+import com.example.controller.UserController;
+import com.example.repository.UserRepository;
+import com.example.service.UserService;
+import com.framework.utils.Accessors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH à armes égales des écritures d'injection sur UserService / UserController :
+ * Field.set / Method.invoke (membres rendus accessibles une fois) contre les accès liés
+ * du container (Accessors.bind). Mêmes cibles et mêmes valeurs (déjà en boîte) des deux côtés,
+ * sans getBean, métriques ni événement JFR
+ * setUserRepository écrit sur la sortie standard : il n'est pas mesuré
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class InjectionBenchmark {
+
+    private UserController controller;
+    private UserService service;
+    private Object repository;
+    private Object logLevel;
+    private Object maxAttempts;
+    private Object timeout;
+
+    private Field userServiceField;
+    private Field userRepositoryField;
+    private Method setLogLevel;
+    private Method setMaxAttempts;
+    private Method setTimeout;
+
+    private Accessors.Writer userServiceWriter;
+    private Accessors.Writer userRepositoryWriter;
+    private Accessors.Writer logLevelWriter;
+    private Accessors.Writer maxAttemptsWriter;
+    private Accessors.Writer timeoutWriter;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        controller = new UserController();
+        service = new UserService();
+        repository = new UserRepository("jdbc:h2:mem:jmh", "sa", "");
+        logLevel = "DEBUG";
+        maxAttempts = 5;
+        timeout = 2000L;
+
+        userServiceField = UserController.class.getDeclaredField("userService");
+        userRepositoryField = UserService.class.getDeclaredField("userRepository");
+        setLogLevel = UserController.class.getDeclaredMethod("setLogLevel", String.class);
+        setMaxAttempts = UserService.class.getDeclaredMethod("setMaxAttempts", int.class);
+        setTimeout = UserService.class.getDeclaredMethod("setTimeout", long.class);
+        userServiceField.setAccessible(true);
+        userRepositoryField.setAccessible(true);
+        setLogLevel.setAccessible(true);
+        setMaxAttempts.setAccessible(true);
+        setTimeout.setAccessible(true);
+
+        userServiceWriter = Accessors.bind(userServiceField);
+        userRepositoryWriter = Accessors.bind(userRepositoryField);
+        logLevelWriter = Accessors.bind(setLogLevel);
+        maxAttemptsWriter = Accessors.bind(setMaxAttempts);
+        timeoutWriter = Accessors.bind(setTimeout);
+    }
+
+    @Benchmark
+    public Object reflectiveFieldWrite() throws Exception {
+        userServiceField.set(controller, service);
+        userRepositoryField.set(service, repository);
+        return controller;
+    }
+
+    @Benchmark
+    public Object boundFieldWrite() throws Exception {
+        userServiceWriter.write(controller, service);
+        userRepositoryWriter.write(service, repository);
+        return controller;
+    }
+
+    @Benchmark
+    public Object reflectiveSetterCall() throws Exception {
+        setLogLevel.invoke(controller, logLevel);
+        setMaxAttempts.invoke(service, maxAttempts);
+        setTimeout.invoke(service, timeout);
+        return controller;
+    }
+
+    @Benchmark
+    public Object boundSetterCall() throws Exception {
+        logLevelWriter.write(controller, logLevel);
+        maxAttemptsWriter.write(service, maxAttempts);
+        timeoutWriter.write(service, timeout);
+        return controller;
+    }
+}
@@ -0,0 +1,77 @@
+package com.framework.benchmark.jmh;
+
+import com.framework.container.ApplicationContext;
+import com.framework.xml.DefinitionSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark JMH du démarrage complet d'un ApplicationContext : lecture du XML
+ * (avec ou sans snapshot binaire), résolution des classes et création des singletons
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class StartupBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    public int size;
+
+    @Param({ "false", "true" })
+    public boolean snapshot;
+
+    private File xml;
+    private Path snapshots;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if (snapshot) {
+            snapshots = Files.createTempDirectory("jmh-snapshots");
+            System.setProperty(DefinitionSnapshot.DIRECTORY_PROPERTY, snapshots.toString());
+        }
+        xml = Fixtures.generateXml(size);
+    }
+
+    @Benchmark
+    public ApplicationContext startup() {
+        ApplicationContext context = new ApplicationContext(xml.getPath());
+        context.refresh();
+        context.close();
+        return context;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.clearProperty(DefinitionSnapshot.DIRECTORY_PROPERTY);
+        xml.delete();
+        if (snapshots != null) {
+            try (Stream<Path> files = Files.list(snapshots)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(snapshots);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.framework.benchmark.jmh;
+
+import com.framework.container.BeanDefinition;
+import com.framework.xml.JaxbXmlParser;
+import com.framework.xml.XmlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de XmlParser.parseXml (StAX) contre l'ancien parseur JAXB de référence
+ * sur des configurations de tailles croissantes (sans snapshot binaire : le parseur est toujours mesuré)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class XmlParseBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int size;
+
+    private File xml;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        xml = Fixtures.generateXml(size);
+    }
+
+    @Benchmark
+    public Map<String, BeanDefinition> parseXml() {
+        return XmlParser.parseXml(xml);
+    }
+
+    @Benchmark
+    public Map<String, BeanDefinition> jaxbParseXml() {
+        return JaxbXmlParser.parseXml(xml);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        xml.delete();
+    }
+}
@@ -0,0 +1,18 @@
+package com.framework.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation pour l'initialisation paresseuse
+ * - Sur un composant : le bean n'est pas créé au démarrage, seulement au premier usage
+ * - Sur un point @Autowired : un proxy est injecté, la cible n'est créée qu'au premier appel
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Documented
+public @interface Lazy {
+    /**
+     * Indique si l'initialisation est paresseuse
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,19 @@
+package com.framework.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation pour la portée d'un composant
+ * - singleton (par défaut) : une seule instance dans le container
+ * - prototype : une nouvelle instance à chaque demande
+ * - thread, request, unit-of-work ou une portée enregistrée : une instance par contexte de la portée
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface Scope {
+    /**
+     * Nom de la portée
+     */
+    String value();
+}
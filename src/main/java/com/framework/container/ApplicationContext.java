@@ -1,7 +1,21 @@
 package com.framework.container;
 
+import com.framework.exception.DependencyInjectionException;
+import com.framework.utils.Converter;
+import com.framework.xml.DefinitionSnapshot;
+import com.framework.xml.XmlConfigLoader;
 import com.framework.xml.XmlParser;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Contexte applicatif principal - point d'entrée du framework
@@ -10,13 +24,36 @@ import java.util.Map;
 public class ApplicationContext {
 
     private BeanContainer container;
-    private String configFile;
+    private String[] configFiles;
+    private Executor startupExecutor; // Executor de pré-instanciation (null : pool temporaire)
+    private XmlConfigLoader configLoader; // Garde les fichiers lus pour le rechargement
+    private Map<String, BeanDefinition> xmlDefinitions; // Définitions issues des fichiers XML
+    private ConfigWatcher watcher;
+    private volatile RuntimeException lastReloadError;
 
     /**
      * Crée un contexte basé sur un fichier de configuration XML
      */
     public ApplicationContext(String xmlConfigFile) {
-        this.configFile = xmlConfigFile;
+        this(new String[] { xmlConfigFile });
+    }
+
+    /**
+     * Crée un contexte basé sur plusieurs fichiers de configuration XML (et leurs imports),
+     * parsés en parallèle puis fusionnés dans l'ordre des arguments
+     */
+    public ApplicationContext(String... xmlConfigFiles) {
+        this(null, xmlConfigFiles);
+    }
+
+    /**
+     * Crée un contexte basé sur des fichiers de configuration XML, avec l'executor utilisé
+     * pour les parser puis par refresh() pour créer les singletons (null : pool commun
+     * pour le parsing, pool temporaire pour refresh)
+     */
+    public ApplicationContext(Executor startupExecutor, String... xmlConfigFiles) {
+        this.configFiles = xmlConfigFiles;
+        this.startupExecutor = startupExecutor;
         this.container = new BeanContainer();
         initFromXml();
     }
@@ -29,17 +66,121 @@ public class ApplicationContext {
     }
 
     /**
-     * Charge la configuration à partir d'un fichier XML
+     * Charge la configuration à partir des fichiers XML (via leurs snapshots binaires s'ils
+     * sont activés et à jour, voir DefinitionSnapshot)
+     * Les définitions fusionnées sont enregistrées en une seule fois
      */
     private void initFromXml() {
         try {
-            Map<String, BeanDefinition> definitions = XmlParser.parseXml(configFile);
-            container.registerDefinitions(definitions);
+            List<File> files = configFiles();
+            configLoader = new XmlConfigLoader(startupExecutor, DefinitionSnapshot.configuredDirectory());
+            xmlDefinitions = configLoader.load(files);
+            container.registerDefinitions(xmlDefinitions);
         } catch (Exception e) {
-            throw new RuntimeException("Erreur lors du chargement du fichier de configuration: " + configFile, e);
+            throw new RuntimeException(
+                "Erreur lors du chargement du fichier de configuration: " + String.join(", ", configFiles), e);
+        }
+    }
+
+    private List<File> configFiles() {
+        List<File> files = new ArrayList<>(configFiles.length);
+        for (String configFile : configFiles) {
+            files.add(new File(configFile));
+        }
+        return files;
+    }
+
+    /**
+     * Recharge les fichiers XML du contexte sans le fermer
+     * Seuls les fichiers modifiés sont relus ; les définitions sont comparées aux actuelles et
+     * seuls les beans modifiés, ajoutés ou supprimés, et ceux qui en dépendent, sont recréés
+     * Une configuration invalide est refusée avant tout changement, et l'échec d'une recréation
+     * rétablit les définitions et singletons précédents : dans les deux cas le contexte reste
+     * sur la configuration précédente, et le prochain reload réessaie les fichiers modifiés
+     *
+     * @return IDs des beans invalidés (voir BeanContainer.reloadDefinitions)
+     */
+    public synchronized List<String> reload() {
+        if (configLoader == null) {
+            throw new IllegalStateException("Aucun fichier de configuration XML à recharger");
+        }
+        Map<String, BeanDefinition> loaded = configLoader.load(configFiles());
+
+        Map<String, BeanDefinition> current = new LinkedHashMap<>();
+        List<BeanDefinition> updated = new ArrayList<>();
+        for (BeanDefinition definition : loaded.values()) {
+            BeanDefinition previous = xmlDefinitions.get(definition.getId());
+            if (previous != null && (previous == definition || previous.hasSameConfiguration(definition))) {
+                current.put(definition.getId(), previous); // Définition inchangée : classe et fabrique conservées
+            } else {
+                current.put(definition.getId(), definition);
+                updated.add(definition);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String beanId : xmlDefinitions.keySet()) {
+            if (!current.containsKey(beanId)) {
+                removed.add(beanId);
+            }
+        }
+
+        try {
+            List<String> invalidated = updated.isEmpty() && removed.isEmpty()
+                    ? new ArrayList<>()
+                    : container.reloadDefinitions(updated, removed);
+            xmlDefinitions = current; // Seulement si le container a bien changé
+            return invalidated;
+        } finally {
+            if (watcher != null) {
+                try {
+                    watcher.watch(configLoader.getLoadedFiles()); // Les imports ont pu changer, même en cas d'erreur
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Active le rechargement automatique : les fichiers XML (et leurs imports) sont surveillés
+     * et reload() est appelé après chaque modification. Les erreurs de rechargement ne sont
+     * pas propagées : voir getLastReloadError()
+     */
+    public synchronized void enableReload() {
+        if (configLoader == null) {
+            throw new IllegalStateException("Aucun fichier de configuration XML à surveiller");
+        }
+        if (watcher != null) {
+            return;
+        }
+        try {
+            watcher = new ConfigWatcher(this);
+            watcher.watch(configLoader.getLoadedFiles());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de surveiller les fichiers de configuration", e);
+        }
+        watcher.start();
+    }
+
+    /**
+     * Rechargement déclenché par la surveillance des fichiers
+     */
+    void reloadQuietly() {
+        try {
+            reload();
+            lastReloadError = null;
+        } catch (RuntimeException e) {
+            lastReloadError = e;
         }
     }
 
+    /**
+     * Erreur du dernier rechargement automatique, ou null s'il a réussi
+     */
+    public RuntimeException getLastReloadError() {
+        return lastReloadError;
+    }
+
     /**
      * Charge une configuration XML depuis une ressource (classpath)
      */
@@ -49,13 +190,83 @@ public class ApplicationContext {
     }
 
     /**
-     * Charge une configuration XML depuis un fichier
+     * Charge une configuration XML depuis un fichier (via son snapshot binaire s'il est activé et à jour)
      */
     public void loadXmlFromFile(String filePath) {
-        Map<String, BeanDefinition> definitions = XmlParser.parseXml(filePath);
+        Map<String, BeanDefinition> definitions = DefinitionSnapshot.parseXml(new File(filePath));
         container.registerDefinitions(definitions);
     }
 
+    /**
+     * Charge les registres de composants générés à la compilation (ComponentProcessor)
+     * Les composants non couverts restent enregistrables via registerComponent (réflexion)
+     */
+    public void loadComponentRegistries() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (ComponentRegistry registry : ServiceLoader.load(ComponentRegistry.class, classLoader)) {
+            registry.registerComponents(container);
+        }
+    }
+
+    /**
+     * Enregistre les composants de packages : via l'index généré à la compilation pour
+     * les racines du classpath qui en ont un, par scan du bytecode pour les autres
+     */
+    public void scanComponents(String... packageNames) {
+        for (String packageName : packageNames) {
+            container.scanComponents(packageName);
+        }
+    }
+
+    /**
+     * Définit l'executor utilisé par refresh() pour créer les singletons en parallèle
+     * (les fichiers XML sont déjà parsés : voir ApplicationContext(Executor, String...))
+     */
+    public void setStartupExecutor(Executor startupExecutor) {
+        this.startupExecutor = startupExecutor;
+    }
+
+    /**
+     * Crée tous les singletons en parallèle, dans l'ordre du graphe de dépendances
+     * Sans executor configuré, un pool temporaire d'un thread par cœur est utilisé
+     */
+    public void refresh() {
+        if (startupExecutor != null) {
+            container.preInstantiateSingletons(startupExecutor);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            container.preInstantiateSingletons(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Valide la configuration sans créer aucun bean (références, @Autowired, cycles,
+     * classes, valeurs et constructeurs) ; liste vide si elle est correcte
+     */
+    public List<String> validate() {
+        return container.validate();
+    }
+
+    /**
+     * Chronologie du dernier refresh : durée de création de chaque bean, attente de ses
+     * dépendances et chemin critique (export JSON ou arbre lisible), ou null avant le refresh
+     */
+    public StartupTimeline getStartupTimeline() {
+        return container.getStartupTimeline();
+    }
+
+    /**
+     * Métriques du container : accès par ID et par type, cache des singletons,
+     * créations par bean et latences de création et d'injection
+     */
+    public ContainerMetrics getMetrics() {
+        return container.getMetrics();
+    }
+
     /**
      * Obtient un bean par son ID
      */
@@ -85,6 +296,24 @@ public class ApplicationContext {
         return null;
     }
 
+    /**
+     * Emprunte une instance d'un bean de portée "pooled", rendue à la fermeture du Pooled
+     */
+    public <T> Pooled<T> borrow(String beanId, Class<T> type) {
+        Object bean = container.getBean(beanId);
+        if (bean == null) {
+            throw new DependencyInjectionException("Bean introuvable: " + beanId);
+        }
+        return new Pooled<>(container, beanId, type.cast(bean));
+    }
+
+    /**
+     * Rend au pool une instance d'un bean de portée "pooled"
+     */
+    public void release(String beanId, Object instance) {
+        container.releaseBean(beanId, instance);
+    }
+
     /**
      * Enregistre une définition de bean
      */
@@ -99,6 +328,27 @@ public class ApplicationContext {
         container.registerComponent(componentClass);
     }
 
+    /**
+     * Enregistre (ou remplace) une portée de beans
+     */
+    public void registerScope(String name, BeanScope scope) {
+        container.registerScope(name, scope);
+    }
+
+    /**
+     * Portée enregistrée sous un nom (thread, request, unit-of-work...), ou null
+     */
+    public BeanScope getScope(String name) {
+        return container.getScope(name);
+    }
+
+    /**
+     * Enregistre un convertisseur pour les valeurs littérales d'un type (à appeler avant refresh)
+     */
+    public <T> void registerConverter(Class<T> type, Converter<? extends T> converter) {
+        container.getConversionService().register(type, converter);
+    }
+
     /**
      * Enregistre un singleton
      */
@@ -124,6 +374,12 @@ public class ApplicationContext {
      * Ferme le contexte et libère les ressources
      */
     public void close() {
+        synchronized (this) {
+            if (watcher != null) {
+                watcher.close();
+                watcher = null;
+            }
+        }
         container.destroy();
     }
 }
@@ -1,42 +1,142 @@
 package com.framework.container;
 
 import com.framework.annotations.Component;
-import com.framework.annotations.Autowired;
+import com.framework.annotations.Lazy;
+import com.framework.annotations.Scope;
+import com.framework.exception.BeanDefinitionException;
 import com.framework.exception.DependencyInjectionException;
-import com.framework.utils.ReflectionUtils;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import com.framework.jfr.BeanCreationEvent;
+import com.framework.jfr.BeanLookupEvent;
+import com.framework.utils.ClassPathScanner;
+import com.framework.utils.ConversionService;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Conteneur de beans pour la gestion des dépendances
  */
 public class BeanContainer {
 
-    private Map<String, Object> singletons = new HashMap<>();
-    private Map<String, BeanDefinition> definitions = new HashMap<>();
+    private Map<String, Object> singletons = new ConcurrentHashMap<>();
+    private Map<String, BeanDefinition> definitions = new ConcurrentHashMap<>();
     private BeanInjector injector = new BeanInjector(this);
-    private Set<String> beingCreated = new HashSet<>(); // Pour détecter les dépendances circulaires
+    private final CreationLocks creationLocks = new CreationLocks(); // Un verrou par singleton
+    private TypeIndex typeIndex = new TypeIndex();
+    private Set<String> unindexed = new LinkedHashSet<>(); // Définitions dont la classe n'est pas encore chargée
+    private Map<String, BeanScope> scopes = new ConcurrentHashMap<>();
+    private ConversionService conversionService = new ConversionService();
+    // Incrémentée quand un singleton déjà référencé peut changer (écritures rares : seule
+    // compte l'inégalité avec la valeur précédente, même si deux incrémentations se chevauchent)
+    private volatile int generation;
+    // Enregistrement des créations pendant un refresh (null le reste du temps)
+    private volatile StartupRecorder startupRecorder;
+    private volatile StartupTimeline startupTimeline;
+    private final ContainerMetrics metrics = new ContainerMetrics();
+
+    // Pile de résolution propre à chaque thread, pour détecter les dépendances circulaires
+    private final ThreadLocal<Set<String>> resolutionStack = ThreadLocal.withInitial(LinkedHashSet::new);
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    public BeanContainer() {
+        scopes.put(BeanScope.THREAD, new ThreadScope());
+        scopes.put(BeanScope.REQUEST, new ContextScope(BeanScope.REQUEST));
+        scopes.put(BeanScope.UNIT_OF_WORK, new ContextScope(BeanScope.UNIT_OF_WORK));
+        scopes.put(BeanScope.POOLED, new PooledScope());
+    }
+
+    /**
+     * Enregistre (ou remplace) une portée
+     */
+    public void registerScope(String name, BeanScope scope) {
+        if (BeanDefinition.SCOPE_SINGLETON.equals(name) || BeanDefinition.SCOPE_PROTOTYPE.equals(name)) {
+            throw new DependencyInjectionException("Portée réservée: " + name);
+        }
+        scopes.put(name, scope);
+    }
+
+    /**
+     * Portée enregistrée sous un nom, ou null
+     */
+    public BeanScope getScope(String name) {
+        return scopes.get(name);
+    }
 
     /**
      * Enregistre une définition de bean
      */
     public void registerDefinition(BeanDefinition definition) {
         definitions.put(definition.getId(), definition);
+        indexDefinition(definition);
     }
 
     /**
-     * Enregistre les définitions de beans
+     * Enregistre les définitions de beans (une seule passe sur la map)
      */
     public void registerDefinitions(Map<String, BeanDefinition> defs) {
-        definitions.putAll(defs);
+        for (BeanDefinition definition : defs.values()) {
+            definitions.put(definition.getId(), definition);
+            indexDefinition(definition);
+        }
+    }
+
+    /**
+     * Indexe une définition par type dès que sa classe est connue
+     */
+    private void indexDefinition(BeanDefinition definition) {
+        String beanId = definition.getId();
+        synchronized (unindexed) {
+            if (definition.getBeanClass() != null) {
+                unindexed.remove(beanId);
+                typeIndex.add(beanId, definition.getBeanClass());
+            } else {
+                typeIndex.remove(beanId);
+                unindexed.add(beanId);
+            }
+        }
     }
 
     /**
      * Obtient un bean par son ID
+     * Un singleton existant est lu sans verrou ; sa création est protégée par un verrou
+     * propre au bean, ce qui garantit une seule construction même sous accès concurrent
      */
     public Object getBean(String beanId) {
-        if (beingCreated.contains(beanId)) {
+        return getBean(beanId, true);
+    }
+
+    /**
+     * @param countById faux pour une recherche par type, déjà comptée comme telle
+     */
+    private Object getBean(String beanId, boolean countById) {
+        BeanLookupEvent event = new BeanLookupEvent(); // Sans effet si l'événement JFR est désactivé
+        event.begin();
+        Object bean = lookup(beanId);
+        if (countById) {
+            metrics.recordLookup(beanId, bean != null);
+        }
+        if (event.shouldCommit()) {
+            event.describe(beanId, definitions.get(beanId));
+            event.found = bean != null;
+            event.commit();
+        }
+        return bean;
+    }
+
+    private Object lookup(String beanId) {
+        Object instance = singletons.get(beanId);
+        if (instance != null) {
+            metrics.recordSingletonHit();
+            return instance;
+        }
+
+        Set<String> stack = resolutionStack.get();
+        if (stack.contains(beanId)) {
             throw new DependencyInjectionException("Dépendance circulaire détectée pour le bean: " + beanId);
         }
 
@@ -46,19 +146,73 @@ public class BeanContainer {
         }
 
         if (definition.isSingleton()) {
-            Object instance = singletons.get(beanId);
-            if (instance == null) {
-                beingCreated.add(beanId);
-                instance = createBean(definition);
-                beingCreated.remove(beanId);
-                singletons.put(beanId, instance);
+            metrics.recordSingletonMiss();
+            StartupRecorder recorder = startupRecorder;
+            long waitStart = recorder != null ? System.nanoTime() : 0;
+            creationLocks.lock(beanId); // Lève la dépendance circulaire si l'attente bouclerait entre threads
+            try {
+                if (recorder != null) {
+                    recorder.waited(System.nanoTime() - waitStart);
+                }
+                instance = singletons.get(beanId);
+                if (instance == null) {
+                    instance = createTracked(definition, stack);
+                    singletons.put(beanId, instance);
+                }
+            } finally {
+                creationLocks.unlock(beanId);
             }
             return instance;
-        } else {
-            beingCreated.add(beanId);
+        }
+        String scopeName = definition.getCustomScope();
+        if (scopeName != null) {
+            BeanScope scope = scopes.get(scopeName);
+            if (scope == null) {
+                throw new DependencyInjectionException("Portée inconnue: " + scopeName + " (bean: " + beanId + ")");
+            }
+            Supplier<Object> factory = definition.getScopedFactory();
+            if (factory == null) {
+                factory = () -> createTracked(definition, resolutionStack.get());
+                definition.setScopedFactory(factory);
+            }
+            return scope.get(beanId, factory);
+        }
+        return createTracked(definition, stack);
+    }
+
+    /**
+     * Rend au pool une instance d'un bean de portée "pooled" obtenue par getBean
+     */
+    public void releaseBean(String beanId, Object instance) {
+        BeanDefinition definition = definitions.get(beanId);
+        BeanScope scope = definition != null && definition.getCustomScope() != null
+                ? scopes.get(definition.getCustomScope()) : null;
+        if (!(scope instanceof PooledScope)) {
+            throw new DependencyInjectionException("Le bean n'appartient pas à une portée poolée: " + beanId);
+        }
+        ((PooledScope) scope).release(beanId, instance);
+    }
+
+    /**
+     * Crée un bean en l'empilant sur la pile de résolution du thread courant
+     */
+    private Object createTracked(BeanDefinition definition, Set<String> stack) {
+        stack.add(definition.getId());
+        StartupRecorder recorder = startupRecorder;
+        StartupRecorder.Frame frame = recorder != null ? recorder.begin(definition) : null;
+        try {
+            long begin = System.nanoTime();
             Object instance = createBean(definition);
-            beingCreated.remove(beanId);
+            if (instance == null) {
+                throw new DependencyInjectionException("La fabrique du bean a retourné null: " + definition.getId());
+            }
+            metrics.recordCreation(definition, System.nanoTime() - begin);
             return instance;
+        } finally {
+            stack.remove(definition.getId());
+            if (frame != null) {
+                recorder.end(frame);
+            }
         }
     }
 
@@ -66,37 +220,611 @@ public class BeanContainer {
      * Obtient un bean par type (interface ou classe)
      */
     public Object getBean(Class<?> type) {
-        return getBean(type.getSimpleName(), type);
+        metrics.recordTypeLookup(type);
+        return getBean(type.getSimpleName(), type, false);
     }
 
     /**
      * Obtient un bean par ID et type
      */
     public Object getBean(String beanId, Class<?> type) {
-        Object bean = getBean(beanId);
+        return getBean(beanId, type, true);
+    }
+
+    private Object getBean(String beanId, Class<?> type, boolean countById) {
+        Object bean = definitions.containsKey(beanId) || singletons.containsKey(beanId)
+                ? getBean(beanId, countById) : null;
         if (bean == null) {
-            // Chercher par type si pas d'ID exact
-            for (String id : definitions.keySet()) {
-                Object candidate = getBean(id);
-                if (candidate != null && type.isInstance(candidate)) {
-                    return candidate;
-                }
+            metrics.recordTypeFallback();
+            // Chercher par type si pas d'ID exact : seul un candidat compatible est créé
+            List<String> candidates = getBeanIdsForType(type);
+            if (!candidates.isEmpty()) {
+                bean = getBean(candidates.get(0), countById);
             }
         }
         return bean;
     }
 
+    /**
+     * Résout la dépendance d'un point @Autowired
+     * Si la cible est paresseuse (ou le point annoté @Lazy) et pas encore créée, un proxy
+     * est injecté à sa place ; sinon le bean est obtenu comme avec getBean(beanId, type)
+     */
+    public Object resolveDependency(String beanId, Class<?> type, boolean lazy) {
+        String target = resolveAutowiredId(beanId, type);
+        if (target != null && isLazyInjection(target, type, lazy)) {
+            return LazyProxy.create(this, target, type);
+        }
+        return getBean(beanId, type);
+    }
+
+    /**
+     * Un proxy n'est possible que pour un type interface et un singleton pas encore créé
+     */
+    boolean isLazyInjection(String targetId, Class<?> type, boolean lazy) {
+        if (!type.isInterface() || singletons.containsKey(targetId)) {
+            return false;
+        }
+        BeanDefinition definition = definitions.get(targetId);
+        return definition != null && definition.isSingleton() && (lazy || definition.isLazyInit());
+    }
+
+    /**
+     * IDs des beans compatibles avec un type, dans l'ordre d'enregistrement (aucune instanciation)
+     */
+    public List<String> getBeanIdsForType(Class<?> type) {
+        List<String> candidates = typeIndex.find(type);
+        if (candidates.isEmpty() && !typeIndex.isKnownMiss(type)) {
+            indexPendingDefinitions();
+            candidates = typeIndex.find(type);
+            if (candidates.isEmpty()) {
+                typeIndex.recordMiss(type);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Charge (sans initialiser) les classes des définitions pas encore indexées
+     */
+    private void indexPendingDefinitions() {
+        List<String> pending;
+        synchronized (unindexed) {
+            if (unindexed.isEmpty()) {
+                return;
+            }
+            pending = new ArrayList<>(unindexed);
+        }
+        for (String beanId : pending) {
+            BeanDefinition definition = definitions.get(beanId);
+            if (definition == null) {
+                continue;
+            }
+            try {
+                if (definition.isResolved()) {
+                    indexDefinition(definition); // Classe déjà chargée en lot (ClassResolver.resolveAll)
+                } else {
+                    resolve(definition);
+                }
+            } catch (BeanDefinitionException e) {
+                // L'erreur sera signalée lors de la création du bean
+            }
+        }
+    }
+
+    /**
+     * Résout la classe d'une définition (premier usage), l'indexe par type et convertit ses littéraux
+     */
+    void resolve(BeanDefinition definition) {
+        if (!definition.isResolved()) {
+            ClassResolver.resolve(definition);
+            indexDefinition(definition);
+        }
+        if (!definition.isConverted()) {
+            convertLiterals(definition);
+        }
+    }
+
+    /**
+     * Convertit une fois pour toutes les valeurs littérales d'une définition résolue : vers le type
+     * déclaré de chaque argument (String par défaut), et vers le type de la propriété (type
+     * déclaré dans la définition, sinon celui du setter ou du field, génériques compris)
+     */
+    private void convertLiterals(BeanDefinition definition) {
+        synchronized (definition) {
+            if (definition.isConverted()) {
+                return;
+            }
+            List<String> values = definition.getConstructorArgValues();
+            List<String> refs = definition.getConstructorArgRefs();
+            List<Class<?>> types = definition.getConstructorArgTypes();
+            List<Object> arguments = new ArrayList<>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                String ref = refs.get(i);
+                if (ref != null && !ref.isEmpty()) {
+                    arguments.add(null);
+                } else {
+                    Class<?> type = types.get(i);
+                    arguments.add(convert(definition, "argument " + i, values.get(i), type != null ? type : String.class));
+                }
+            }
+
+            Map<String, Object> properties = new HashMap<>();
+            InjectionMode mode = definition.getInjectionMode();
+            if (mode == InjectionMode.SETTER || mode == InjectionMode.FIELD) {
+                InjectionPlan plan = InjectionPlan.forClass(definition.getBeanClass());
+                for (Map.Entry<String, String> property : definition.getPropertyValues().entrySet()) {
+                    String name = property.getKey();
+                    String ref = definition.getPropertyRefs().get(name);
+                    String value = property.getValue();
+                    if ((ref != null && !ref.isEmpty()) || value == null || value.isEmpty()) {
+                        continue;
+                    }
+                    InjectionPlan.MemberWriter writer = mode == InjectionMode.SETTER
+                            ? plan.findSetter(name)
+                            : plan.findField(name);
+                    if (writer == null) {
+                        continue;
+                    }
+                    Class<?> declared = definition.getPropertyTypes().get(name);
+                    properties.put(name, convert(definition, "propriété " + name, value,
+                            declared != null ? declared : writer.getGenericType()));
+                }
+            }
+            definition.setTypedValues(arguments, properties);
+        }
+    }
+
+    private Object convert(BeanDefinition definition, String target, String value, Type type) {
+        try {
+            return conversionService.convert(value, type);
+        } catch (IllegalArgumentException e) {
+            throw new BeanDefinitionException(
+                "Valeur invalide pour " + target + " du bean " + definition.getId() + ": " + e.getMessage(), e
+            );
+        }
+    }
+
+    /**
+     * Service de conversion des valeurs littérales (convertisseurs personnalisés)
+     */
+    public ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    /**
+     * ID du bean injecté dans un point @Autowired : l'ID qualifié s'il existe,
+     * sinon le premier candidat du type, ou null
+     */
+    String resolveAutowiredId(String beanId, Class<?> type) {
+        if (definitions.containsKey(beanId) || singletons.containsKey(beanId)) {
+            return beanId;
+        }
+        List<String> candidates = getBeanIdsForType(type);
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    /**
+     * Définitions enregistrées
+     */
+    Collection<BeanDefinition> getDefinitions() {
+        return definitions.values();
+    }
+
+    /**
+     * Crée tous les singletons, niveau par niveau du graphe de dépendances
+     * Les beans d'un même niveau sont indépendants et créés en parallèle sur l'executor ;
+     * le niveau suivant ne démarre qu'une fois le précédent terminé
+     * Les beans paresseux (lazy-init) sont ignorés : ils seront créés au premier usage
+     * Les créations sont chronométrées (voir getStartupTimeline)
+     */
+    public void preInstantiateSingletons(Executor executor) {
+        StartupRecorder recorder = new StartupRecorder();
+        startupRecorder = recorder;
+        DependencyGraph graph = null;
+        try {
+            graph = createSingletons(executor);
+        } finally {
+            startupRecorder = null;
+            startupTimeline = recorder.finish(graph);
+        }
+    }
+
+    private DependencyGraph createSingletons(Executor executor) {
+        List<String> problems = new ArrayList<>();
+        List<RuntimeException> causes = new ArrayList<>();
+        DependencyGraph graph = check(executor, problems, causes);
+        if (!problems.isEmpty()) {
+            throw invalid("Configuration invalide", problems, causes);
+        }
+
+        for (List<String> level : graph.levels()) {
+            List<String> beanIds = new ArrayList<>();
+            for (String beanId : level) {
+                BeanDefinition definition = definitions.get(beanId);
+                if (definition != null && definition.isSingleton() && !definition.isLazyInit()
+                        && !singletons.containsKey(beanId)) {
+                    beanIds.add(beanId);
+                }
+            }
+            createAll(beanIds, executor);
+        }
+
+        // Beans pris dans un cycle : la création séquentielle signale la dépendance circulaire
+        for (String beanId : graph.getCyclicBeans()) {
+            BeanDefinition definition = definitions.get(beanId);
+            if (definition != null && definition.isSingleton() && !definition.isLazyInit()) {
+                getBean(beanId);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Chronologie du dernier refresh (voir preInstantiateSingletons), ou null
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
+    /**
+     * Métriques d'utilisation du container (toujours actives)
+     */
+    public ContainerMetrics getMetrics() {
+        return metrics;
+    }
+
+    StartupRecorder getStartupRecorder() {
+        return startupRecorder;
+    }
+
+    /**
+     * Valide toutes les définitions sans instancier aucun bean et retourne tous les problèmes :
+     * classes introuvables, valeurs invalides, constructeur absent ou ambigu, références
+     * inconnues, points @Autowired obligatoires sans candidat et dépendances circulaires
+     * Le refresh fait la même validation et échoue avant toute création s'il y a un problème
+     */
+    public List<String> validate() {
+        List<String> problems = new ArrayList<>();
+        check(null, problems, new ArrayList<>());
+        return problems;
+    }
+
+    /**
+     * Charge les classes (en parallèle sur l'executor), convertit les littéraux, choisit les
+     * constructeurs puis valide le graphe ; retourne le graphe des dépendances
+     */
+    private DependencyGraph check(Executor executor, List<String> problems, List<RuntimeException> causes) {
+        try {
+            ClassResolver.resolveAll(definitions.values(), executor);
+        } catch (BeanDefinitionException e) {
+            addProblems(e, problems, causes);
+        }
+        indexPendingDefinitions();
+
+        List<BeanDefinition> resolved = new ArrayList<>();
+        for (BeanDefinition definition : definitions.values()) {
+            if (definition.isResolved()) {
+                resolved.add(definition);
+            }
+        }
+        resolved.sort(Comparator.comparing(BeanDefinition::getId));
+        for (BeanDefinition definition : resolved) {
+            try {
+                convertLiterals(definition);
+                if (definition.getInjectionMode() == InjectionMode.CONSTRUCTOR) {
+                    PreparedConstructor.of(definition, this);
+                }
+            } catch (BeanDefinitionException | DependencyInjectionException e) {
+                problems.add(e.getMessage());
+                causes.add(e);
+            }
+        }
+
+        DependencyGraph graph = DependencyGraph.build(this);
+        problems.addAll(DependencyValidator.validate(this, graph));
+        return graph;
+    }
+
+    /**
+     * Erreur unique listant tous les problèmes (causes en exceptions supprimées)
+     */
+    private static BeanDefinitionException invalid(String title, List<String> problems, List<RuntimeException> causes) {
+        StringBuilder message = new StringBuilder(title).append(" (")
+                .append(problems.size()).append(" problème(s)):");
+        for (String problem : problems) {
+            message.append("\n - ").append(problem);
+        }
+        BeanDefinitionException failure = new BeanDefinitionException(message.toString());
+        for (RuntimeException cause : causes) {
+            failure.addSuppressed(cause);
+        }
+        return failure;
+    }
+
+    /**
+     * Problèmes d'une erreur agrégée (une par erreur d'origine), ou l'erreur elle-même
+     */
+    private static void addProblems(RuntimeException error, List<String> problems, List<RuntimeException> causes) {
+        Throwable[] suppressed = error.getSuppressed();
+        if (suppressed.length == 0) {
+            problems.add(error.getMessage());
+            causes.add(error);
+            return;
+        }
+        for (Throwable cause : suppressed) {
+            problems.add(cause.getMessage());
+            if (cause instanceof RuntimeException) {
+                causes.add((RuntimeException) cause);
+            }
+        }
+    }
+
+    /**
+     * Crée un groupe de beans indépendants ; toutes les erreurs du groupe sont remontées ensemble
+     */
+    private void createAll(List<String> beanIds, Executor executor) {
+        if (executor == null || beanIds.size() < 2) {
+            for (String beanId : beanIds) {
+                getBean(beanId);
+            }
+            return;
+        }
+
+        List<CompletableFuture<Object>> futures = new ArrayList<>(beanIds.size());
+        for (String beanId : beanIds) {
+            futures.add(CompletableFuture.supplyAsync(() -> getBean(beanId), executor));
+        }
+        DependencyInjectionException failure = null;
+        for (CompletableFuture<Object> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (failure == null) {
+                    failure = cause instanceof DependencyInjectionException
+                            ? (DependencyInjectionException) cause
+                            : new DependencyInjectionException("Erreur lors de la pré-instanciation des singletons", cause);
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Remplace des définitions à chaud, sans vider le container
+     * Seuls les beans modifiés, ajoutés ou supprimés et ceux qui en dépendent transitivement
+     * (avant ou après le remplacement) sont invalidés ; les autres singletons sont conservés
+     * Avant tout changement, les nouvelles définitions passent la validation du refresh
+     * (classes, valeurs, constructeurs, références, @Autowired, cycles) sur une copie du
+     * container : une configuration invalide lève une BeanDefinitionException et ne touche à rien
+     * Les singletons invalidés qui existaient sont ensuite recréés dans l'ordre des dépendances ;
+     * si une recréation échoue malgré tout, les définitions et instances précédentes sont rétablies
+     * Pendant l'opération, un getBean concurrent peut encore obtenir l'ancienne instance d'un
+     * bean pas encore recréé (ou une nouvelle instance abandonnée si le rechargement échoue)
+     *
+     * @return IDs des beans invalidés, chacun après ses dépendances
+     */
+    public List<String> reloadDefinitions(Collection<BeanDefinition> updated, Collection<String> removed) {
+        Set<String> changed = new HashSet<>(removed);
+        for (BeanDefinition definition : updated) {
+            changed.add(definition.getId());
+        }
+        validateReload(updated, removed, changed);
+
+        Set<String> affected = new HashSet<>(changed);
+        affected.addAll(DependencyGraph.build(this).getDependentsClosure(changed));
+
+        Map<String, BeanDefinition> previousDefinitions = new HashMap<>();
+        for (String beanId : changed) {
+            previousDefinitions.put(beanId, definitions.get(beanId));
+        }
+        Map<String, Object> previousSingletons = new HashMap<>();
+        for (String beanId : removed) {
+            definitions.remove(beanId);
+            typeIndex.remove(beanId);
+            synchronized (unindexed) {
+                unindexed.remove(beanId);
+            }
+            Object previous = removeSingleton(beanId);
+            if (previous != null) {
+                previousSingletons.put(beanId, previous);
+            }
+        }
+        for (BeanDefinition definition : updated) {
+            registerDefinition(definition);
+        }
+
+        List<String> invalidated = DependencyGraph.build(this).getDependentsClosure(affected);
+        List<String> recreate = new ArrayList<>();
+        for (String beanId : invalidated) {
+            BeanDefinition definition = definitions.get(beanId);
+            if (!changed.contains(beanId)) {
+                clearPrepared(definition);
+            }
+            BeanScope scope = definition.getCustomScope() != null ? scopes.get(definition.getCustomScope()) : null;
+            if (scope instanceof PooledScope) {
+                ((PooledScope) scope).evict(beanId); // Instances libres construites avec les anciennes dépendances
+            }
+            Object previous = removeSingleton(beanId);
+            if (previous != null) {
+                previousSingletons.put(beanId, previous);
+                if (definition.isSingleton() && !definition.isLazyInit()) {
+                    recreate.add(beanId);
+                }
+            }
+        }
+        generation++; // Les références déjà résolues vers les beans invalidés sont périmées
+        // Chaque bean est recréé après ses dépendances, donc avec leurs nouvelles instances
+        RuntimeException failure = null;
+        for (String beanId : recreate) {
+            try {
+                getBean(beanId);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            restore(previousDefinitions, previousSingletons, invalidated, changed);
+            throw failure;
+        }
+        return invalidated;
+    }
+
+    /**
+     * Validation d'un rechargement sur un container de travail : définitions actuelles moins
+     * les supprimées plus les nouvelles, mêmes portées, convertisseurs et singletons enregistrés
+     * Les définitions nouvelles et celles qui en dépendent sont vérifiées comme au refresh, sans
+     * garder de constructeur préparé (il serait lié au container de travail) ; rien n'est créé
+     */
+    private void validateReload(Collection<BeanDefinition> updated, Collection<String> removed, Set<String> changed) {
+        List<String> problems = new ArrayList<>();
+        List<RuntimeException> causes = new ArrayList<>();
+        try {
+            ClassResolver.resolveAll(updated, null);
+        } catch (BeanDefinitionException e) {
+            addProblems(e, problems, causes);
+        }
+
+        BeanContainer staging = new BeanContainer();
+        staging.scopes = scopes;
+        staging.conversionService = conversionService;
+        staging.singletons.putAll(singletons);
+        Map<String, BeanDefinition> stagedDefinitions = new LinkedHashMap<>(definitions);
+        for (String beanId : changed) {
+            staging.singletons.remove(beanId);
+            stagedDefinitions.remove(beanId);
+        }
+        for (BeanDefinition definition : updated) {
+            stagedDefinitions.put(definition.getId(), definition);
+        }
+        staging.registerDefinitions(stagedDefinitions);
+        staging.indexPendingDefinitions();
+
+        DependencyGraph graph = DependencyGraph.build(staging);
+        Set<String> checked = new TreeSet<>(changed);
+        checked.addAll(graph.getDependentsClosure(changed));
+        for (String beanId : checked) {
+            BeanDefinition definition = staging.definitions.get(beanId);
+            if (definition == null || !definition.isResolved()) {
+                continue; // Supprimé, ou classe introuvable déjà signalée
+            }
+            try {
+                staging.convertLiterals(definition);
+                if (definition.getInjectionMode() == InjectionMode.CONSTRUCTOR) {
+                    PreparedConstructor.check(definition, staging);
+                }
+            } catch (BeanDefinitionException | DependencyInjectionException e) {
+                problems.add(e.getMessage());
+                causes.add(e);
+            }
+        }
+        problems.addAll(DependencyValidator.validate(staging, graph));
+        if (!problems.isEmpty()) {
+            throw invalid("Rechargement invalide", problems, causes);
+        }
+    }
+
+    /**
+     * Rétablit les définitions et les singletons d'avant un rechargement dont une recréation a échoué
+     */
+    private void restore(Map<String, BeanDefinition> previousDefinitions, Map<String, Object> previousSingletons,
+                         List<String> invalidated, Set<String> changed) {
+        for (String beanId : invalidated) {
+            removeSingleton(beanId); // Nouvelles instances, construites avec les définitions abandonnées
+        }
+        for (Map.Entry<String, BeanDefinition> entry : previousDefinitions.entrySet()) {
+            if (entry.getValue() != null) {
+                registerDefinition(entry.getValue());
+            } else {
+                definitions.remove(entry.getKey());
+                typeIndex.remove(entry.getKey());
+                synchronized (unindexed) {
+                    unindexed.remove(entry.getKey());
+                }
+            }
+        }
+        for (String beanId : invalidated) {
+            BeanDefinition definition = definitions.get(beanId);
+            if (definition != null && !changed.contains(beanId)) {
+                clearPrepared(definition); // Préparés pendant la recréation d'après les nouvelles dépendances
+            }
+        }
+        singletons.putAll(previousSingletons);
+        generation++;
+    }
+
+    /**
+     * Fabrique et constructeur préparés d'après les types des dépendances : recalculés au prochain usage
+     */
+    private static void clearPrepared(BeanDefinition definition) {
+        if (definition.getInjectionMode() != null) {
+            definition.setFactory(null);
+            definition.setPreparedConstructor(null);
+        }
+    }
+
+    private Object removeSingleton(String beanId) {
+        creationLocks.lock(beanId);
+        try {
+            return singletons.remove(beanId);
+        } finally {
+            creationLocks.unlock(beanId);
+        }
+    }
+
+    /**
+     * Type du bean désigné par un ID, ou null s'il est inconnu
+     */
+    Class<?> getBeanType(String beanId) {
+        BeanDefinition definition = definitions.get(beanId);
+        if (definition != null) {
+            try {
+                resolve(definition);
+            } catch (BeanDefinitionException e) {
+                return null; // Signalé à la création du bean
+            }
+            return definition.getBeanClass();
+        }
+        Object singleton = singletons.get(beanId);
+        return singleton != null ? singleton.getClass() : null;
+    }
+
     /**
      * Crée une instance d'un bean
      */
     private Object createBean(BeanDefinition definition) {
+        BeanCreationEvent event = new BeanCreationEvent();
+        event.begin();
         try {
+            resolve(definition);
+            BeanFactory factory = definition.getFactory();
+            if (factory == null && !definition.isSingleton()) {
+                // Les prototypes sont recréés souvent : on compile leur fabrique une seule fois
+                factory = BeanFactoryCompiler.compile(definition, this);
+                definition.setFactory(factory);
+            }
+            if (factory != null) {
+                // Sans injection en mode constructeur, comme le chemin par réflexion
+                return definition.getInjectionMode() == InjectionMode.CONSTRUCTOR
+                        ? factory.create(this)
+                        : injector.createInjected(factory, definition);
+            }
+
             Object instance;
             Class<?> clazz = definition.getBeanClass();
             InjectionMode mode = definition.getInjectionMode();
 
             if (mode == InjectionMode.CONSTRUCTOR) {
-                instance = createBeanWithConstructor(clazz, definition);
+                instance = createBeanWithConstructor(definition);
             } else {
                 instance = createBeanDefault(clazz);
             }
@@ -111,63 +839,64 @@ public class BeanContainer {
             throw new DependencyInjectionException(
                 "Erreur lors de la création du bean: " + definition.getId(), e
             );
+        } finally {
+            if (event.shouldCommit()) {
+                event.describe(definition.getId(), definition);
+                event.commit();
+            }
         }
     }
 
     /**
-     * Crée un bean avec injection par constructeur
+     * Crée un bean avec injection par constructeur (constructeur et arguments préparés une fois)
      */
-    private Object createBeanWithConstructor(Class<?> clazz, BeanDefinition definition) 
-            throws InvocationTargetException, IllegalAccessException, InstantiationException {
-        
-        Object[] constructorArgs = injector.resolveConstructorArgs(definition);
-        Constructor<?> constructor = null;
-
-        // Chercher le constructeur correspondant
-        for (Constructor<?> c : clazz.getDeclaredConstructors()) {
-            if (c.getParameterCount() == constructorArgs.length) {
-                Class<?>[] paramTypes = c.getParameterTypes();
-                boolean matches = true;
-                for (int i = 0; i < paramTypes.length; i++) {
-                    if (constructorArgs[i] != null && 
-                        !paramTypes[i].isInstance(constructorArgs[i])) {
-                        matches = false;
-                        break;
-                    }
-                }
-                if (matches) {
-                    constructor = c;
-                    break;
-                }
-            }
-        }
+    private Object createBeanWithConstructor(BeanDefinition definition) {
+        return PreparedConstructor.of(definition, this).newInstance();
+    }
 
-        if (constructor == null) {
-            constructor = clazz.getDeclaredConstructor();
-        }
+    /**
+     * Génération courante : les références compilées (BeanReference) la comparent à celle
+     * de leur résolution pour savoir si l'instance mémorisée est encore valide
+     */
+    int getGeneration() {
+        return generation;
+    }
 
-        constructor.setAccessible(true);
-        return constructor.newInstance(constructorArgs.length > 0 ? constructorArgs : new Object[0]);
+    /**
+     * Vrai si un ID désigne une instance unique (définition singleton ou singleton enregistré)
+     */
+    boolean isSingletonBean(String beanId) {
+        BeanDefinition definition = definitions.get(beanId);
+        return definition != null ? definition.isSingleton() : singletons.containsKey(beanId);
     }
 
     /**
      * Crée un bean avec le constructeur par défaut
      */
-    private Object createBeanDefault(Class<?> clazz) throws InstantiationException, IllegalAccessException {
-        try {
-            return ReflectionUtils.instantiate(clazz);
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new DependencyInjectionException("Erreur lors de l'instantiation de la classe: " + clazz.getName(), e);
-        } catch (Exception e) {
-            throw new DependencyInjectionException("Erreur lors de la création du bean", e);
+    private Object createBeanDefault(Class<?> clazz) {
+        return defaultConstructor(InjectionPlan.forClass(clazz)).newInstance(NO_ARGS);
+    }
+
+    private InjectionPlan.ConstructorAccessor defaultConstructor(InjectionPlan plan) {
+        InjectionPlan.ConstructorAccessor constructor = plan.getDefaultConstructor();
+        if (constructor == null) {
+            throw new DependencyInjectionException(
+                "Aucun constructeur par défaut pour la classe: " + plan.getBeanClass().getName()
+            );
         }
+        return constructor;
     }
 
     /**
      * Enregistre un bean singleton
      */
     public void registerSingleton(String beanId, Object instance) {
-        singletons.put(beanId, instance);
+        if (singletons.put(beanId, instance) != null) {
+            generation++;
+        }
+        if (!definitions.containsKey(beanId)) {
+            typeIndex.add(beanId, instance.getClass());
+        }
     }
 
     /**
@@ -189,24 +918,57 @@ public class BeanContainer {
         BeanDefinition definition = new BeanDefinition(beanId, componentClass.getName());
         definition.setBeanClass(componentClass);
         definition.setInjectionMode(null); // Mode hybride avec annotations
+        Lazy lazy = componentClass.getAnnotation(Lazy.class);
+        definition.setLazyInit(lazy != null && lazy.value());
+        Scope scope = componentClass.getAnnotation(Scope.class);
+        if (scope != null) {
+            definition.setScope(scope.value());
+        }
         registerDefinition(definition);
     }
 
     /**
      * Scanne et enregistre tous les composants dans un package
+     * La décision se prend par racine du classpath : un répertoire ou un jar qui a un index
+     * généré à la compilation (ComponentIndex) est lu via l'index, les autres sont scannés.
+     * Le scan analyse le bytecode sans charger les classes : seules celles annotées
+     * avec @Component sont chargées (sans être initialisées) puis enregistrées
      */
     public void scanComponents(String packageName) {
         try {
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            String path = packageName.replace('.', '/');
-            
-            // Note: Ceci est une implémentation simplifiée
-            // Une véritable implémentation utiliserait la réflexion ou ClassPath scanning
+            ComponentIndex index = ComponentIndex.load(classLoader);
+            if (index != null) {
+                registerComponents(index.getComponents(packageName), classLoader);
+            }
+            for (String className : ClassPathScanner.findAnnotatedClasses(classLoader, packageName, Component.class,
+                    root -> index == null || !index.covers(root))) {
+                registerComponent(Class.forName(className, false, classLoader));
+            }
+        } catch (DependencyInjectionException e) {
+            throw e;
         } catch (Exception e) {
             throw new DependencyInjectionException("Erreur lors du scan du package: " + packageName, e);
         }
     }
 
+    /**
+     * Enregistre des composants lus dans l'index, sans relire leurs annotations
+     * (ni celles de la classe, ni celles de ses points @Autowired quand l'index les donne)
+     */
+    public void registerComponents(List<ComponentIndex.Entry> components, ClassLoader classLoader)
+            throws ClassNotFoundException {
+        for (ComponentIndex.Entry entry : components) {
+            BeanDefinition definition = new BeanDefinition(entry.getBeanId(), entry.getClassName());
+            definition.setBeanClass(Class.forName(entry.getClassName(), false, classLoader));
+            definition.setInjectionMode(null); // Mode hybride avec annotations
+            definition.setLazyInit(entry.isLazy());
+            definition.setScope(entry.getScope());
+            definition.setIndexedPoints(entry.getInjectionPoints());
+            registerDefinition(definition);
+        }
+    }
+
     /**
      * Obtient une list de tous les beans créés
      */
@@ -221,12 +983,24 @@ public class BeanContainer {
         return definitions.containsKey(beanId);
     }
 
+    /**
+     * Vrai si l'ID désigne une définition ou un singleton enregistré directement
+     */
+    boolean isRegistered(String beanId) {
+        return definitions.containsKey(beanId) || singletons.containsKey(beanId);
+    }
+
     /**
      * Nettoie le conteneur
      */
     public void destroy() {
+        generation++;
         singletons.clear();
         definitions.clear();
-        beingCreated.clear();
+        creationLocks.clear();
+        typeIndex.clear();
+        synchronized (unindexed) {
+            unindexed.clear();
+        }
     }
 }
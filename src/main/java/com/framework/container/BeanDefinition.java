@@ -1,31 +1,57 @@
 package com.framework.container;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Définition d'un bean gérée par le container
  */
 public class BeanDefinition {
+
+    public static final String SCOPE_SINGLETON = "singleton";
+    public static final String SCOPE_PROTOTYPE = "prototype";
     
     private String id;
     private String className;
-    private Class<?> beanClass;
+    private volatile Class<?> beanClass; // null tant que la classe n'est pas résolue
     private Object instance;
     private boolean singleton = true;
+    private String scope; // Portée enregistrée (thread, request...) ; null pour singleton et prototype
+    private boolean lazyInit; // Créé au premier usage plutôt qu'au démarrage
     
     // Pour l'injection par constructor
     private List<String> constructorArgRefs = new ArrayList<>();
     private List<String> constructorArgValues = new ArrayList<>();
     private List<Class<?>> constructorArgTypes = new ArrayList<>();
+    private List<String> constructorArgTypeNames = new ArrayList<>(); // Résolus avec la classe du bean
     
     // Pour l'injection par properties (setter ou field)
     private Map<String, String> propertyRefs = new HashMap<>();
     private Map<String, String> propertyValues = new HashMap<>();
     private Map<String, Class<?>> propertyTypes = new HashMap<>();
     
+    // Valeurs littérales converties une fois vers leur type cible (null tant que non converties)
+    private volatile List<Object> typedConstructorArgs;
+    private volatile Map<String, Object> typedPropertyValues;
+
     // Mode d'injection
     private InjectionMode injectionMode;
 
+    // Fabrique compilée (ou générée) produisant des instances déjà injectées
+    private volatile BeanFactory factory;
+
+    // Constructeur choisi et arguments préparés (voir PreparedConstructor)
+    private volatile PreparedConstructor preparedConstructor;
+
+    // Points @Autowired donnés par l'index des composants (null : lire les annotations)
+    private List<ComponentIndex.Point> indexedPoints;
+
+    // Points @Autowired liés aux membres de la classe (voir InjectionPlan.autowired)
+    private volatile List<InjectionPlan.InjectionPoint> autowiredPoints;
+
+    // Création confiée aux portées, conservée pour ne pas l'allouer à chaque getBean
+    private volatile Supplier<Object> scopedFactory;
+
     public BeanDefinition(String id, String className) {
         this.id = id;
         this.className = className;
@@ -52,6 +78,11 @@ public class BeanDefinition {
     }
 
     public void setBeanClass(Class<?> beanClass) {
+        if (this.beanClass != null && this.beanClass != beanClass) {
+            invalidate(); // Remplacement : la résolution initiale (null -> classe) garde une fabrique fournie
+            indexedPoints = null; // L'index décrivait l'ancienne classe
+            autowiredPoints = null;
+        }
         this.beanClass = beanClass;
     }
 
@@ -69,6 +100,37 @@ public class BeanDefinition {
 
     public void setSingleton(boolean singleton) {
         this.singleton = singleton;
+        this.scope = null;
+    }
+
+    /**
+     * Nom de la portée : singleton, prototype ou une portée enregistrée dans le container
+     */
+    public String getScope() {
+        if (scope != null) {
+            return scope;
+        }
+        return singleton ? SCOPE_SINGLETON : SCOPE_PROTOTYPE;
+    }
+
+    public void setScope(String scope) {
+        this.singleton = scope == null || SCOPE_SINGLETON.equals(scope);
+        this.scope = singleton || SCOPE_PROTOTYPE.equals(scope) ? null : scope;
+    }
+
+    /**
+     * Portée enregistrée, ou null pour un singleton ou un prototype
+     */
+    String getCustomScope() {
+        return scope;
+    }
+
+    public boolean isLazyInit() {
+        return lazyInit;
+    }
+
+    public void setLazyInit(boolean lazyInit) {
+        this.lazyInit = lazyInit;
     }
 
     public List<String> getConstructorArgRefs() {
@@ -83,10 +145,42 @@ public class BeanDefinition {
         return constructorArgTypes;
     }
 
+    public List<String> getConstructorArgTypeNames() {
+        return constructorArgTypeNames;
+    }
+
     public void addConstructorArg(String value, String ref, Class<?> type) {
+        invalidate();
         constructorArgValues.add(value);
         constructorArgRefs.add(ref);
         constructorArgTypes.add(type);
+        constructorArgTypeNames.add(type != null ? type.getName() : null);
+    }
+
+    /**
+     * Ajoute un argument dont le type n'est connu que par son nom (résolu plus tard, voir ClassResolver)
+     */
+    public void addConstructorArg(String value, String ref, String typeName) {
+        invalidate();
+        constructorArgValues.add(value);
+        constructorArgRefs.add(ref);
+        constructorArgTypes.add(null);
+        constructorArgTypeNames.add(typeName);
+    }
+
+    /**
+     * Vrai si la classe du bean et les types des arguments sont chargés
+     */
+    public boolean isResolved() {
+        if (beanClass == null) {
+            return false;
+        }
+        for (int i = 0; i < constructorArgTypeNames.size(); i++) {
+            if (constructorArgTypeNames.get(i) != null && constructorArgTypes.get(i) == null) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public Map<String, String> getPropertyRefs() {
@@ -101,17 +195,119 @@ public class BeanDefinition {
         return propertyTypes;
     }
 
+    /**
+     * Ajoute une propriété ; le type, s'il est donné, remplace celui du setter ou du field
+     * pour la conversion de la valeur
+     */
     public void addProperty(String name, String value, String ref, Class<?> type) {
+        invalidate();
         propertyValues.put(name, value);
         propertyRefs.put(name, ref);
         propertyTypes.put(name, type);
     }
 
+    /**
+     * Vrai si les valeurs littérales ont été converties (voir getTypedConstructorArgs)
+     */
+    public boolean isConverted() {
+        return typedConstructorArgs != null;
+    }
+
+    /**
+     * Arguments du constructeur convertis (null pour une référence), ou null avant conversion
+     */
+    public List<Object> getTypedConstructorArgs() {
+        return typedConstructorArgs;
+    }
+
+    /**
+     * Valeurs des propriétés converties vers le type du setter ou du field, ou null avant conversion
+     */
+    public Map<String, Object> getTypedPropertyValues() {
+        return typedPropertyValues;
+    }
+
+    void setTypedValues(List<Object> constructorArgs, Map<String, Object> propertyValues) {
+        this.typedPropertyValues = propertyValues;
+        this.typedConstructorArgs = constructorArgs; // En dernier : publie aussi les propriétés
+    }
+
     public InjectionMode getInjectionMode() {
         return injectionMode;
     }
 
     public void setInjectionMode(InjectionMode injectionMode) {
+        invalidate();
         this.injectionMode = injectionMode;
     }
+
+    /**
+     * La configuration de création change : littéraux convertis, constructeur préparé et fabrique
+     * compilée sont recalculés au prochain usage (une fabrique fournie par setFactory est aussi retirée)
+     */
+    private void invalidate() {
+        typedConstructorArgs = null;
+        preparedConstructor = null;
+        factory = null;
+    }
+
+    /**
+     * Vrai si les deux définitions décrivent le même bean (classe, portée, arguments, propriétés)
+     * L'état d'exécution (classe chargée, fabrique compilée) n'est pas comparé
+     */
+    public boolean hasSameConfiguration(BeanDefinition other) {
+        return id.equals(other.id)
+                && className.equals(other.className)
+                && singleton == other.singleton
+                && Objects.equals(scope, other.scope)
+                && lazyInit == other.lazyInit
+                && injectionMode == other.injectionMode
+                && constructorArgValues.equals(other.constructorArgValues)
+                && constructorArgRefs.equals(other.constructorArgRefs)
+                && constructorArgTypeNames.equals(other.constructorArgTypeNames)
+                && propertyValues.equals(other.propertyValues)
+                && propertyRefs.equals(other.propertyRefs)
+                && propertyTypes.equals(other.propertyTypes);
+    }
+
+    public BeanFactory getFactory() {
+        return factory;
+    }
+
+    public void setFactory(BeanFactory factory) {
+        this.factory = factory;
+    }
+
+    PreparedConstructor getPreparedConstructor() {
+        return preparedConstructor;
+    }
+
+    void setPreparedConstructor(PreparedConstructor preparedConstructor) {
+        this.preparedConstructor = preparedConstructor;
+    }
+
+    List<ComponentIndex.Point> getIndexedPoints() {
+        return indexedPoints;
+    }
+
+    void setIndexedPoints(List<ComponentIndex.Point> indexedPoints) {
+        this.indexedPoints = indexedPoints;
+        this.autowiredPoints = null;
+    }
+
+    List<InjectionPlan.InjectionPoint> getAutowiredPoints() {
+        return autowiredPoints;
+    }
+
+    void setAutowiredPoints(List<InjectionPlan.InjectionPoint> autowiredPoints) {
+        this.autowiredPoints = autowiredPoints;
+    }
+
+    Supplier<Object> getScopedFactory() {
+        return scopedFactory;
+    }
+
+    void setScopedFactory(Supplier<Object> scopedFactory) {
+        this.scopedFactory = scopedFactory;
+    }
 }
@@ -0,0 +1,14 @@
+package com.framework.container;
+
+/**
+ * Fabrique d'instances associée à une définition de bean
+ * Retourne une instance complètement construite et injectée
+ */
+@FunctionalInterface
+public interface BeanFactory {
+
+    /**
+     * Crée une nouvelle instance ; les références sont résolues via le container
+     */
+    Object create(BeanContainer container) throws Exception;
+}
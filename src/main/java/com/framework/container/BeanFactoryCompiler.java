@@ -0,0 +1,218 @@
+package com.framework.container;
+
+import com.framework.exception.DependencyInjectionException;
+import com.framework.utils.Accessors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Compile une définition de bean en une fabrique dédiée
+ * Le constructeur, les setters et les écritures de fields sont assemblés une seule fois
+ * en une chaîne de MethodHandle de forme (BeanContainer) -> Object : créer une instance
+ * revient alors à appeler directement new puis chaque setter, sans recherche ni conversion
+ * (les littéraux sont ceux déjà convertis dans la définition)
+ */
+final class BeanFactoryCompiler {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, BeanContainer.class);
+    private static final MethodHandle SUPPLIER_GET;
+    private static final MethodHandle RESOLVE_DEPENDENCY;
+    private static final MethodHandle NOT_NULL;
+    private static final MethodHandle REQUIRE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SUPPLIER_GET = lookup.findVirtual(Supplier.class, "get", MethodType.methodType(Object.class));
+            RESOLVE_DEPENDENCY = lookup.findVirtual(BeanContainer.class, "resolveDependency",
+                    MethodType.methodType(Object.class, String.class, Class.class, boolean.class));
+            NOT_NULL = lookup.findStatic(Objects.class, "nonNull",
+                    MethodType.methodType(boolean.class, Object.class));
+            REQUIRE = lookup.findStatic(BeanFactoryCompiler.class, "require",
+                    MethodType.methodType(Object.class, Object.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BeanFactoryCompiler() {
+    }
+
+    /**
+     * Compile la fabrique d'une définition
+     */
+    static BeanFactory compile(BeanDefinition definition, BeanContainer container) {
+        try {
+            InjectionPlan plan = InjectionPlan.forClass(definition.getBeanClass());
+            InjectionMode mode = definition.getInjectionMode();
+
+            MethodHandle factory;
+            if (mode == InjectionMode.CONSTRUCTOR) {
+                factory = compileConstructor(definition, container);
+            } else {
+                factory = compileDefaultConstructor(plan);
+                if (mode == InjectionMode.SETTER || mode == InjectionMode.FIELD) {
+                    factory = MethodHandles.foldArguments(compileProperties(plan, definition, mode, container), factory);
+                } else if (mode == null) {
+                    factory = MethodHandles.foldArguments(compileAutowired(plan, definition), factory);
+                }
+            }
+
+            MethodHandle handle = factory;
+            String id = definition.getId();
+            return c -> {
+                try {
+                    return (Object) handle.invokeExact(c);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new DependencyInjectionException("Erreur lors de la création du bean: " + id, e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            throw new DependencyInjectionException(
+                "Erreur lors de la compilation de la fabrique du bean: " + definition.getId(), e
+            );
+        }
+    }
+
+    /**
+     * new Bean(arg0, arg1, ...) d'après le constructeur préparé : chaque argument est une
+     * constante déjà convertie ou une référence directe vers le bean (BeanReference)
+     */
+    private static MethodHandle compileConstructor(BeanDefinition definition,
+                                                   BeanContainer container) throws IllegalAccessException {
+        PreparedConstructor prepared = PreparedConstructor.of(definition, container);
+        Supplier<?>[] arguments = prepared.getArguments();
+
+        int count = arguments.length;
+        MethodHandle[] resolvers = new MethodHandle[count];
+        for (int i = 0; i < count; i++) {
+            resolvers[i] = arguments[i] instanceof PreparedConstructor.Literal
+                    ? constant(arguments[i].get())
+                    : supplier(arguments[i]);
+        }
+
+        MethodHandle handle = Accessors.constructor(prepared.getConstructor().getConstructor());
+        if (count == 0) {
+            return MethodHandles.dropArguments(handle, 0, BeanContainer.class);
+        }
+        handle = MethodHandles.filterArguments(handle, 0, resolvers);
+        return MethodHandles.permuteArguments(handle, FACTORY_TYPE, new int[count]);
+    }
+
+    /**
+     * new Bean() via le constructeur par défaut
+     */
+    private static MethodHandle compileDefaultConstructor(InjectionPlan plan) throws IllegalAccessException {
+        InjectionPlan.ConstructorAccessor constructor = plan.getDefaultConstructor();
+        if (constructor == null) {
+            throw new DependencyInjectionException(
+                "Aucun constructeur par défaut pour la classe: " + plan.getBeanClass().getName()
+            );
+        }
+        return MethodHandles.dropArguments(Accessors.constructor(constructor.getConstructor()), 0, BeanContainer.class);
+    }
+
+    /**
+     * (Object bean, BeanContainer) -> Object : écrit chaque propriété puis retourne le bean
+     */
+    private static MethodHandle compileProperties(InjectionPlan plan, BeanDefinition definition, InjectionMode mode,
+                                                  BeanContainer container) throws IllegalAccessException {
+        MethodHandle chain = MethodHandles.dropArguments(
+                MethodHandles.identity(Object.class), 1, BeanContainer.class);
+
+        List<MethodHandle> steps = new ArrayList<>();
+        Map<String, String> refs = definition.getPropertyRefs();
+        Map<String, String> values = definition.getPropertyValues();
+        for (String propName : values.keySet()) {
+            InjectionPlan.MemberWriter writer = mode == InjectionMode.SETTER
+                    ? plan.findSetter(propName)
+                    : plan.findField(propName);
+            if (writer == null) {
+                continue;
+            }
+
+            MethodHandle step;
+            String ref = refs.get(propName);
+            String value = values.get(propName);
+            if (ref != null && !ref.isEmpty()) {
+                // Une référence absente (null) laisse la valeur par défaut, comme l'injection classique
+                MethodHandle write = MethodHandles.guardWithTest(
+                        MethodHandles.dropArguments(NOT_NULL, 0, Object.class),
+                        writer.handle(),
+                        MethodHandles.empty(Accessors.WRITER_TYPE));
+                step = MethodHandles.filterArguments(write, 1, supplier(new BeanReference(container, ref)));
+            } else if (value != null && !value.isEmpty()) {
+                Object converted = definition.getTypedPropertyValues().get(propName);
+                step = MethodHandles.dropArguments(
+                        MethodHandles.insertArguments(writer.handle(), 1, converted), 1, BeanContainer.class);
+            } else {
+                continue;
+            }
+            steps.add(step);
+        }
+
+        // Chaque fold s'exécute avant la chaîne existante : on replie en ordre inverse
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            chain = MethodHandles.foldArguments(chain, steps.get(i));
+        }
+        return chain;
+    }
+
+    /**
+     * (Object bean, BeanContainer) -> Object : injecte les points @Autowired (fields puis setters)
+     */
+    private static MethodHandle compileAutowired(InjectionPlan plan, BeanDefinition definition)
+            throws IllegalAccessException {
+        List<InjectionPlan.InjectionPoint> points = InjectionPlan.autowired(definition);
+
+        MethodHandle chain = MethodHandles.dropArguments(
+                MethodHandles.identity(Object.class), 1, BeanContainer.class);
+        for (int i = points.size() - 1; i >= 0; i--) {
+            InjectionPlan.InjectionPoint point = points.get(i);
+            MethodHandle resolver = MethodHandles.insertArguments(RESOLVE_DEPENDENCY, 1,
+                    point.getBeanId(), point.getType(), point.isLazy());
+            if (point.isRequired()) {
+                String message = "Impossible d'injecter la dépendance pour le " +
+                        (point.getWriter().isField() ? "field: " : "setter: ") + point.getName() +
+                        " de la classe: " + plan.getBeanClass().getName();
+                resolver = MethodHandles.filterReturnValue(resolver, MethodHandles.insertArguments(REQUIRE, 1, message));
+            }
+            MethodHandle write = MethodHandles.guardWithTest(
+                    MethodHandles.dropArguments(NOT_NULL, 0, Object.class),
+                    point.getWriter().handle(),
+                    MethodHandles.empty(Accessors.WRITER_TYPE));
+            chain = MethodHandles.foldArguments(chain, MethodHandles.filterArguments(write, 1, resolver));
+        }
+        return chain;
+    }
+
+    /**
+     * Vérifie qu'une dépendance obligatoire a été trouvée
+     */
+    private static Object require(Object dependency, String message) {
+        if (dependency == null) {
+            throw new DependencyInjectionException(message);
+        }
+        return dependency;
+    }
+
+    /**
+     * (BeanContainer) -> Object : appelle le fournisseur (référence directe vers un bean)
+     */
+    private static MethodHandle supplier(Supplier<?> supplier) {
+        return MethodHandles.dropArguments(SUPPLIER_GET.bindTo(supplier), 0, BeanContainer.class);
+    }
+
+    /**
+     * (BeanContainer) -> Object : valeur déjà convertie
+     */
+    private static MethodHandle constant(Object value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(Object.class, value), 0, BeanContainer.class);
+    }
+}
@@ -1,11 +1,8 @@
 package com.framework.container;
 
-import com.framework.annotations.Autowired;
-import com.framework.annotations.Qualifier;
 import com.framework.exception.DependencyInjectionException;
-import com.framework.utils.ReflectionUtils;
+import com.framework.jfr.BeanInjectionEvent;
 
-import java.lang.reflect.*;
 import java.util.*;
 
 /**
@@ -45,71 +42,39 @@ public class BeanInjector {
      * Injection via les annotations
      */
     private void injectAnnotations(Object instance, Class<?> clazz) {
+        InjectionPlan plan = InjectionPlan.forClass(clazz);
+
         // Injection sur les fields annotés avec @Autowired
-        injectByFieldAnnotation(instance, clazz);
+        injectPoints(instance, clazz, plan.getAutowiredFields(), true);
         
         // Injection par setters annotés avec @Autowired
-        injectBySetterAnnotation(instance, clazz);
+        injectPoints(instance, clazz, plan.getAutowiredSetters(), true);
     }
 
     /**
-     * Injection via les fields annoté avec @Autowired
+     * Injection sur des points @Autowired (fields ou setters)
      */
-    private void injectByFieldAnnotation(Object instance, Class<?> clazz) {
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Autowired.class)) {
-                Autowired autowired = field.getAnnotation(Autowired.class);
-                String beanId = getBeanId(field);
-                Object dependency = container.getBean(beanId, field.getType());
-                
-                if (dependency == null && autowired.required()) {
-                    throw new DependencyInjectionException(
-                        "Impossible d'injecter la dépendance pour le field: " + field.getName() +
-                        " de la classe: " + clazz.getName()
-                    );
-                }
-                
-                if (dependency != null) {
-                    try {
-                        ReflectionUtils.setFieldValue(instance, field, dependency);
-                    } catch (IllegalAccessException e) {
-                        throw new DependencyInjectionException(
-                            "Erreur lors de l'injection du field: " + field.getName(), e
-                        );
-                    }
-                }
+    private void injectPoints(Object instance, Class<?> clazz, List<InjectionPlan.InjectionPoint> points,
+                              boolean checkRequired) {
+        for (InjectionPlan.InjectionPoint point : points) {
+            Object dependency = container.resolveDependency(point.getBeanId(), point.getType(), point.isLazy());
+            String member = point.getWriter().isField() ? "field" : "setter";
+            
+            if (dependency == null && checkRequired && point.isRequired()) {
+                throw new DependencyInjectionException(
+                    "Impossible d'injecter la dépendance pour le " + member + ": " + point.getName() +
+                    " de la classe: " + clazz.getName()
+                );
             }
-        }
-    }
-
-    /**
-     * Injection via les setters annotés avec @Autowired
-     */
-    private void injectBySetterAnnotation(Object instance, Class<?> clazz) {
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(Autowired.class) && isSetter(method)) {
-                Autowired autowired = method.getAnnotation(Autowired.class);
-                
-                Class<?> paramType = method.getParameterTypes()[0];
-                String beanId = getBeanIdFromParameter(method);
-                Object dependency = container.getBean(beanId, paramType);
-                
-                if (dependency == null && autowired.required()) {
+            
+            if (dependency != null) {
+                try {
+                    point.getWriter().write(instance, dependency);
+                } catch (RuntimeException e) {
                     throw new DependencyInjectionException(
-                        "Impossible d'injecter la dépendance pour le setter: " + method.getName() +
-                        " de la classe: " + clazz.getName()
+                        "Erreur lors de l'injection du " + member + ": " + point.getName(), e
                     );
                 }
-                
-                if (dependency != null) {
-                    try {
-                        ReflectionUtils.invokeMethod(instance, method, dependency);
-                    } catch (InvocationTargetException | IllegalAccessException e) {
-                        throw new DependencyInjectionException(
-                            "Erreur lors de l'injection du setter: " + method.getName(), e
-                        );
-                    }
-                }
             }
         }
     }
@@ -118,51 +83,60 @@ public class BeanInjector {
      * Injection via les fields (accès direct)
      */
     private void injectByField(Object instance, Class<?> clazz) {
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Autowired.class)) {
-                String beanId = getBeanId(field);
-                Object dependency = container.getBean(beanId, field.getType());
-                
-                if (dependency != null) {
-                    try {
-                        ReflectionUtils.setFieldValue(instance, field, dependency);
-                    } catch (IllegalAccessException e) {
-                        throw new DependencyInjectionException(
-                            "Erreur lors de l'injection du field: " + field.getName(), e
-                        );
-                    }
-                }
-            }
-        }
+        injectPoints(instance, clazz, InjectionPlan.forClass(clazz).getAutowiredFields(), false);
     }
 
     /**
      * Injection via les setters
      */
     private void injectBySetter(Object instance, Class<?> clazz) {
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (isSetter(method) && method.isAnnotationPresent(Autowired.class)) {
-                Class<?> paramType = method.getParameterTypes()[0];
-                String beanId = getBeanIdFromParameter(method);
-                Object dependency = container.getBean(beanId, paramType);
-                
-                if (dependency != null) {
-                    try {
-                        ReflectionUtils.invokeMethod(instance, method, dependency);
-                    } catch (InvocationTargetException | IllegalAccessException e) {
-                        throw new DependencyInjectionException(
-                            "Erreur lors de l'injection du setter: " + method.getName(), e
-                        );
-                    }
-                }
-            }
-        }
+        injectPoints(instance, clazz, InjectionPlan.forClass(clazz).getAutowiredSetters(), false);
     }
 
     /**
      * Injection selon la définition du bean (XML)
      */
     public void injectByDefinition(Object instance, BeanDefinition definition) {
+        BeanInjectionEvent event = new BeanInjectionEvent();
+        event.begin();
+        long begin = System.nanoTime();
+        try {
+            injectDefinition(instance, definition);
+            container.getMetrics().recordInjection(System.nanoTime() - begin);
+        } finally {
+            if (event.shouldCommit()) {
+                event.describe(definition.getId(), definition);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Création par une fabrique compilée ou générée, mesurée comme une injection
+     * (métriques et événement JFR) : construction et injection y sont fusionnées
+     */
+    Object createInjected(BeanFactory factory, BeanDefinition definition) throws Exception {
+        BeanInjectionEvent event = new BeanInjectionEvent();
+        event.begin();
+        long begin = System.nanoTime();
+        try {
+            Object instance = factory.create(container);
+            container.getMetrics().recordInjection(System.nanoTime() - begin);
+            return instance;
+        } finally {
+            if (event.shouldCommit()) {
+                event.describe(definition.getId(), definition);
+                event.commit();
+            }
+        }
+    }
+
+    private void injectDefinition(Object instance, BeanDefinition definition) {
+        container.resolve(definition); // Littéraux convertis une seule fois
+        StartupRecorder recorder = container.getStartupRecorder();
+        if (recorder != null) {
+            recorder.injectionStarted();
+        }
         Class<?> clazz = definition.getBeanClass();
         
         InjectionMode mode = definition.getInjectionMode();
@@ -173,6 +147,9 @@ public class BeanInjector {
             injectPropertiesByField(instance, clazz, definition);
         } else if (mode == InjectionMode.CONSTRUCTOR) {
             // Déjà injecté lors de la création
+        } else {
+            // Mode hybride (composant @Component) : points @Autowired, lus dans l'index si possible
+            injectPoints(instance, clazz, InjectionPlan.autowired(definition), true);
         }
     }
 
@@ -180,23 +157,18 @@ public class BeanInjector {
      * Injecte les propriétés via les setters
      */
     private void injectPropertiesBySetter(Object instance, Class<?> clazz, BeanDefinition definition) {
-        Map<String, String> propertyRefs = definition.getPropertyRefs();
-        Map<String, String> propertyValues = definition.getPropertyValues();
-
-        for (String propName : propertyValues.keySet()) {
-            String setterName = "set" + Character.toUpperCase(propName.charAt(0)) + propName.substring(1);
-            
+        InjectionPlan plan = InjectionPlan.forClass(clazz);
+        for (String propName : definition.getPropertyValues().keySet()) {
             try {
-                Method setter = findSetter(clazz, setterName);
+                InjectionPlan.MemberWriter setter = plan.findSetter(propName);
                 if (setter != null) {
-                    Class<?> paramType = setter.getParameterTypes()[0];
-                    Object value = resolvePropertyValue(propName, paramType, propertyValues, propertyRefs);
+                    Object value = resolvePropertyValue(propName, definition);
                     
                     if (value != null) {
-                        ReflectionUtils.invokeMethod(instance, setter, value);
+                        setter.write(instance, value);
                     }
                 }
-            } catch (Exception e) {
+            } catch (RuntimeException e) {
                 throw new DependencyInjectionException(
                     "Erreur lors de l'injection de la propriété: " + propName, e
                 );
@@ -208,18 +180,16 @@ public class BeanInjector {
      * Injecte les propriétés via les fields
      */
     private void injectPropertiesByField(Object instance, Class<?> clazz, BeanDefinition definition) {
-        Map<String, String> propertyRefs = definition.getPropertyRefs();
-        Map<String, String> propertyValues = definition.getPropertyValues();
-
-        for (String propName : propertyValues.keySet()) {
-            Field field = ReflectionUtils.findField(clazz, propName);
+        InjectionPlan plan = InjectionPlan.forClass(clazz);
+        for (String propName : definition.getPropertyValues().keySet()) {
+            InjectionPlan.MemberWriter field = plan.findField(propName);
             if (field != null) {
                 try {
-                    Object value = resolvePropertyValue(propName, field.getType(), propertyValues, propertyRefs);
+                    Object value = resolvePropertyValue(propName, definition);
                     if (value != null) {
-                        ReflectionUtils.setFieldValue(instance, field, value);
+                        field.write(instance, value);
                     }
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     throw new DependencyInjectionException(
                         "Erreur lors de l'injection du field: " + propName, e
                     );
@@ -229,84 +199,20 @@ public class BeanInjector {
     }
 
     /**
-     * Résout la valeur d'une propriété (value ou ref)
+     * Résout la valeur d'une propriété : le bean référencé, ou la valeur déjà convertie
      */
-    private Object resolvePropertyValue(String propName, Class<?> targetType, 
-                                       Map<String, String> values, Map<String, String> refs) {
-        String ref = refs.get(propName);
+    private Object resolvePropertyValue(String propName, BeanDefinition definition) {
+        String ref = definition.getPropertyRefs().get(propName);
         if (ref != null && !ref.isEmpty()) {
             return container.getBean(ref);
         }
-        
-        String value = values.get(propName);
-        if (value != null && !value.isEmpty()) {
-            return ReflectionUtils.convertValue(value, targetType);
-        }
-        
-        return null;
+        return definition.getTypedPropertyValues().get(propName);
     }
 
     /**
-     * Résout les arguments du constructeur
+     * Résout les arguments du constructeur (valeurs converties et références préparées une fois)
      */
     public Object[] resolveConstructorArgs(BeanDefinition definition) {
-        List<String> values = definition.getConstructorArgValues();
-        List<String> refs = definition.getConstructorArgRefs();
-        List<Class<?>> types = definition.getConstructorArgTypes();
-        
-        Object[] args = new Object[values.size()];
-        for (int i = 0; i < values.size(); i++) {
-            String ref = refs.get(i);
-            if (ref != null && !ref.isEmpty()) {
-                args[i] = container.getBean(ref);
-            } else {
-                String value = values.get(i);
-                Class<?> type = types.get(i);
-                args[i] = ReflectionUtils.convertValue(value, type != null ? type : String.class);
-            }
-        }
-        return args;
-    }
-
-    /**
-     * Obtient l'ID du bean à injecter à partir d'une annotation @Qualifier ou par type
-     */
-    private String getBeanId(Field field) {
-        if (field.isAnnotationPresent(Qualifier.class)) {
-            return field.getAnnotation(Qualifier.class).value();
-        }
-        return field.getType().getSimpleName();
-    }
-
-    /**
-     * Obtient l'ID du bean à injecter à partir de l'annotation @Qualifier sur le paramètre
-     */
-    private String getBeanIdFromParameter(Method method) {
-        Parameter[] params = method.getParameters();
-        if (params.length > 0 && params[0].isAnnotationPresent(Qualifier.class)) {
-            return params[0].getAnnotation(Qualifier.class).value();
-        }
-        return params[0].getType().getSimpleName();
-    }
-
-    /**
-     * Vérifie si une méthode est un setter
-     */
-    private boolean isSetter(Method method) {
-        return method.getName().startsWith("set") &&
-               method.getParameterCount() == 1 &&
-               method.getReturnType() == void.class;
-    }
-
-    /**
-     * Trouve un setter par son nom
-     */
-    private Method findSetter(Class<?> clazz, String setterName) {
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (method.getName().equals(setterName) && isSetter(method)) {
-                return method;
-            }
-        }
-        return null;
+        return PreparedConstructor.of(definition, container).resolveArguments();
     }
 }
@@ -0,0 +1,131 @@
+package com.framework.container;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool borné et sans verrou d'instances d'un bean
+ * Les instances libres occupent les cases d'un tableau atomique : un emprunt vide une case
+ * par compareAndSet, un retour en remplit une ; chaque thread commence sa recherche à une
+ * case aléatoire pour limiter la contention. En régime établi, ni emprunt ni retour n'alloue
+ *
+ * Une instance rendue alors que le pool est plein est abandonnée (voir getDiscarded)
+ * Une instance ne doit être rendue qu'une fois
+ */
+public final class BeanPool {
+
+    private final AtomicReferenceArray<Object> slots;
+    private final Consumer<Object> reset;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    /**
+     * @param capacity nombre maximal d'instances libres conservées
+     * @param reset    appelé sur chaque instance rendue, avant sa remise dans le pool (ou null)
+     */
+    public BeanPool(int capacity, Consumer<Object> reset) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacité du pool invalide: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.reset = reset;
+    }
+
+    /**
+     * Emprunte une instance libre, ou en crée une par factory si le pool est vide
+     */
+    public Object borrow(Supplier<Object> factory) {
+        int length = slots.length();
+        int index = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            Object instance = slots.get(index);
+            if (instance != null && slots.compareAndSet(index, instance, null)) {
+                hits.increment();
+                return instance;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+        misses.increment();
+        return factory.get();
+    }
+
+    /**
+     * Rend une instance : elle est réinitialisée puis remise dans une case libre
+     * Si la réinitialisation échoue, l'instance est abandonnée et l'erreur propagée
+     */
+    public void release(Object instance) {
+        if (reset != null) {
+            try {
+                reset.accept(instance);
+            } catch (RuntimeException e) {
+                discarded.increment();
+                throw e;
+            }
+        }
+        int length = slots.length();
+        int index = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+                return;
+            }
+            if (++index == length) {
+                index = 0;
+            }
+        }
+        discarded.increment();
+    }
+
+    /**
+     * Abandonne toutes les instances libres
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Nombre d'instances libres (approximatif sous accès concurrent)
+     */
+    public int getIdle() {
+        int idle = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    /**
+     * Emprunts servis par une instance du pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Emprunts ayant créé une nouvelle instance
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Instances rendues mais abandonnées (pool plein ou réinitialisation en échec)
+     */
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+}
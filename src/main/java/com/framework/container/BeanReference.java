@@ -0,0 +1,49 @@
+package com.framework.container;
+
+import java.util.function.Supplier;
+
+/**
+ * Référence compilée vers un bean (ref d'un argument ou d'une propriété)
+ * Une cible singleton est résolue une fois puis lue directement ; le cache est invalidé
+ * par tout changement de génération du container (singleton remplacé, rechargement)
+ * Une cible d'une autre portée est redemandée au container à chaque résolution
+ */
+final class BeanReference implements Supplier<Object> {
+
+    private final BeanContainer container;
+    private final String beanId;
+    private volatile Resolved resolved;
+
+    BeanReference(BeanContainer container, String beanId) {
+        this.container = container;
+        this.beanId = beanId;
+    }
+
+    @Override
+    public Object get() {
+        Resolved current = resolved;
+        int generation = container.getGeneration();
+        if (current != null && current.generation == generation) {
+            return current.instance;
+        }
+        Object instance = container.getBean(beanId);
+        if (instance != null && container.isSingletonBean(beanId)) {
+            resolved = new Resolved(instance, generation);
+        }
+        return instance;
+    }
+
+    String getBeanId() {
+        return beanId;
+    }
+
+    private static final class Resolved {
+        final Object instance;
+        final int generation;
+
+        Resolved(Object instance, int generation) {
+            this.instance = instance;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.framework.container;
+
+import java.util.function.Supplier;
+
+/**
+ * Portée de beans enregistrable dans le container (voir BeanContainer.registerScope)
+ * Une portée fournit l'instance d'un bean pour son contexte courant, et la crée au besoin
+ */
+public interface BeanScope {
+
+    /**
+     * Une instance par thread, jusqu'à ThreadScope.end()
+     */
+    String THREAD = "thread";
+
+    /**
+     * Une instance par requête, entre ContextScope.begin() et la fermeture du contexte
+     */
+    String REQUEST = "request";
+
+    /**
+     * Une instance par unité de travail gérée par l'appelant, partageable entre threads
+     */
+    String UNIT_OF_WORK = "unit-of-work";
+
+    /**
+     * Instances empruntées à un pool borné propre au bean, puis rendues (voir PooledScope)
+     */
+    String POOLED = "pooled";
+
+    /**
+     * Instance du bean dans le contexte courant, créée par factory si elle n'existe pas encore
+     */
+    Object get(String beanId, Supplier<Object> factory);
+}
@@ -0,0 +1,150 @@
+package com.framework.container;
+
+import com.framework.exception.BeanDefinitionException;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Résolution différée des classes des définitions
+ * Les classes sont chargées sans exécuter leurs initialiseurs statiques ; la résolution
+ * d'un lot de définitions est découpée en paquets traités en parallèle, et les erreurs
+ * de tous les beans sont remontées ensemble
+ */
+public final class ClassResolver {
+
+    private static final int MIN_BATCH_SIZE = 64;
+
+    private ClassResolver() {
+    }
+
+    /**
+     * Résout un type à partir de son nom (les wrappers désignent le type primitif, comme dans le XML)
+     */
+    public static Class<?> resolveType(String typeName, ClassLoader classLoader) throws ClassNotFoundException {
+        switch (typeName) {
+            case "int":
+            case "java.lang.Integer":
+                return int.class;
+            case "long":
+            case "java.lang.Long":
+                return long.class;
+            case "double":
+            case "java.lang.Double":
+                return double.class;
+            case "float":
+            case "java.lang.Float":
+                return float.class;
+            case "boolean":
+            case "java.lang.Boolean":
+                return boolean.class;
+            case "java.lang.String":
+                return String.class;
+            default:
+                return Class.forName(typeName, false, classLoader);
+        }
+    }
+
+    /**
+     * Résout la classe d'une définition et les types de ses arguments
+     */
+    public static void resolve(BeanDefinition definition) {
+        resolve(definition, classLoader());
+    }
+
+    private static void resolve(BeanDefinition definition, ClassLoader classLoader) {
+        if (definition.isResolved()) {
+            return;
+        }
+        synchronized (definition) {
+            if (definition.isResolved()) {
+                return;
+            }
+            String current = definition.getClassName();
+            try {
+                List<String> typeNames = definition.getConstructorArgTypeNames();
+                List<Class<?>> types = definition.getConstructorArgTypes();
+                for (int i = 0; i < typeNames.size(); i++) {
+                    if (typeNames.get(i) != null && types.get(i) == null) {
+                        current = typeNames.get(i);
+                        types.set(i, resolveType(current, classLoader));
+                    }
+                }
+                if (definition.getBeanClass() == null) {
+                    current = definition.getClassName();
+                    // En dernier : la classe (volatile) publie aussi les types des arguments
+                    definition.setBeanClass(Class.forName(current, false, classLoader));
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new BeanDefinitionException(
+                    "Classe non trouvée: " + current + " (bean: " + definition.getId() + ")", e
+                );
+            }
+        }
+    }
+
+    /**
+     * Résout un ensemble de définitions par paquets, en parallèle sur l'executor (null : séquentiel)
+     * Toutes les erreurs sont rassemblées dans une seule BeanDefinitionException
+     */
+    public static void resolveAll(Collection<BeanDefinition> definitions, Executor executor) {
+        List<BeanDefinition> pending = new ArrayList<>();
+        for (BeanDefinition definition : definitions) {
+            if (!definition.isResolved()) {
+                pending.add(definition);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Le class loader de l'appelant, pas celui des threads du pool
+        ClassLoader classLoader = classLoader();
+        List<BeanDefinitionException> errors;
+        if (executor == null || pending.size() <= MIN_BATCH_SIZE) {
+            errors = resolveBatch(pending, classLoader);
+        } else {
+            int batchSize = Math.max(MIN_BATCH_SIZE, pending.size() / (Runtime.getRuntime().availableProcessors() * 4));
+            List<CompletableFuture<List<BeanDefinitionException>>> batches = new ArrayList<>();
+            for (int start = 0; start < pending.size(); start += batchSize) {
+                List<BeanDefinition> batch = pending.subList(start, Math.min(start + batchSize, pending.size()));
+                batches.add(CompletableFuture.supplyAsync(() -> resolveBatch(batch, classLoader), executor));
+            }
+            errors = new ArrayList<>();
+            for (CompletableFuture<List<BeanDefinitionException>> batch : batches) {
+                errors.addAll(batch.join());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder("Impossible de résoudre les classes de ")
+                    .append(errors.size()).append(" bean(s):");
+            for (BeanDefinitionException error : errors) {
+                message.append("\n - ").append(error.getMessage());
+            }
+            BeanDefinitionException failure = new BeanDefinitionException(message.toString());
+            for (BeanDefinitionException error : errors) {
+                failure.addSuppressed(error);
+            }
+            throw failure;
+        }
+    }
+
+    private static List<BeanDefinitionException> resolveBatch(List<BeanDefinition> batch, ClassLoader classLoader) {
+        List<BeanDefinitionException> errors = new ArrayList<>();
+        for (BeanDefinition definition : batch) {
+            try {
+                resolve(definition, classLoader);
+            } catch (BeanDefinitionException e) {
+                errors.add(e);
+            }
+        }
+        return errors;
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassResolver.class.getClassLoader();
+    }
+}
@@ -0,0 +1,251 @@
+package com.framework.container;
+
+import com.framework.exception.DependencyInjectionException;
+import com.framework.utils.ClassPathScanner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Index des composants généré à la compilation par ComponentProcessor
+ * (META-INF/com.framework.components) : chaque racine du classpath (répertoire ou jar)
+ * qui a un index est lue via l'index, les autres sont toujours scannées (voir scanComponents)
+ *
+ * Format (une entrée par ligne, champs séparés par des tabulations) :
+ *   component  nomBinaire  beanId  lazy  [scope  [nombreDePoints]]
+ *   point      field|setter  nom  typeBinaire  beanId  required  lazy
+ * Les lignes "point" suivent leur composant ; quand le nombre de points est absent (index
+ * antérieur, ou point de type primitif ou tableau), l'injection relit les annotations de la classe
+ */
+public final class ComponentIndex {
+
+    public static final String LOCATION = "META-INF/com.framework.components";
+
+    /**
+     * Propriété système pour ignorer l'index et forcer le scan du classpath
+     */
+    public static final String IGNORE_PROPERTY = "framework.index.ignore";
+
+    private final List<Entry> components;
+    private final Set<String> roots;
+
+    private ComponentIndex(List<Entry> components, Set<String> roots) {
+        this.components = Collections.unmodifiableList(components);
+        this.roots = Collections.unmodifiableSet(roots);
+    }
+
+    /**
+     * Charge et fusionne tous les index visibles du class loader, ou null s'il n'y en a aucun
+     */
+    public static ComponentIndex load(ClassLoader classLoader) {
+        if (Boolean.getBoolean(IGNORE_PROPERTY)) {
+            return null;
+        }
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            if (!resources.hasMoreElements()) {
+                return null;
+            }
+            List<Entry> components = new ArrayList<>();
+            Set<String> roots = new HashSet<>();
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                roots.add(ClassPathScanner.rootOf(url, LOCATION));
+                try (InputStream in = url.openStream()) {
+                    parse(in, components, url.toString());
+                }
+            }
+            return new ComponentIndex(components, roots);
+        } catch (IOException e) {
+            throw new DependencyInjectionException("Erreur lors de la lecture de l'index des composants", e);
+        }
+    }
+
+    private static void parse(InputStream in, List<Entry> components, String source) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Entry current = null;
+        int expected = 0;
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t");
+            if ("component".equals(fields[0]) && fields.length >= 4 && fields.length <= 6) {
+                checkPointCount(current, expected, source, number);
+                // Portée absente dans les index antérieurs : singleton
+                String scope = fields.length >= 5 ? fields[4] : BeanDefinition.SCOPE_SINGLETON;
+                current = new Entry(fields[1], fields[2], Boolean.parseBoolean(fields[3]), scope);
+                expected = fields.length == 6 ? parseCount(fields[5], source, number) : -1;
+                if (expected >= 0) {
+                    current.points = new ArrayList<>(expected);
+                }
+                components.add(current);
+            } else if ("point".equals(fields[0]) && fields.length == 7 && current != null) {
+                if (current.points == null) {
+                    continue; // Index antérieur : points incomplets, les annotations font foi
+                }
+                if (current.points.size() == expected) {
+                    throw invalid(source, number);
+                }
+                current.points.add(new Point("field".equals(fields[1]), fields[2], fields[3], fields[4],
+                        Boolean.parseBoolean(fields[5]), Boolean.parseBoolean(fields[6])));
+            } else {
+                throw invalid(source, number);
+            }
+        }
+        checkPointCount(current, expected, source, number);
+    }
+
+    private static void checkPointCount(Entry entry, int expected, String source, int number) {
+        if (entry != null && entry.points != null && entry.points.size() != expected) {
+            throw invalid(source, number);
+        }
+    }
+
+    private static int parseCount(String value, String source, int number) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Signalé ci-dessous
+        }
+        throw invalid(source, number);
+    }
+
+    private static DependencyInjectionException invalid(String source, int number) {
+        return new DependencyInjectionException(
+            "Index des composants invalide: " + source + " (ligne " + number + ")"
+        );
+    }
+
+    /**
+     * Vrai si la racine du classpath (voir ClassPathScanner.rootOf) a un index
+     */
+    public boolean covers(String root) {
+        return roots.contains(root);
+    }
+
+    /**
+     * Tous les composants indexés
+     */
+    public List<Entry> getComponents() {
+        return components;
+    }
+
+    /**
+     * Composants d'un package et de ses sous-packages
+     */
+    public List<Entry> getComponents(String packageName) {
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : components) {
+            if (entry.className.startsWith(prefix)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Composant indexé
+     */
+    public static final class Entry {
+        private final String className;
+        private final String beanId;
+        private final boolean lazy;
+        private final String scope;
+        private List<Point> points; // null : points inconnus de l'index
+
+        Entry(String className, String beanId, boolean lazy, String scope) {
+            this.className = className;
+            this.beanId = beanId;
+            this.lazy = lazy;
+            this.scope = scope;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public String getBeanId() {
+            return beanId;
+        }
+
+        public boolean isLazy() {
+            return lazy;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        /**
+         * Points @Autowired, fields puis setters, ou null si l'index ne les donne pas
+         * (l'injection lit alors les annotations de la classe)
+         */
+        public List<Point> getInjectionPoints() {
+            return points != null ? Collections.unmodifiableList(points) : null;
+        }
+    }
+
+    /**
+     * Point @Autowired indexé
+     */
+    public static final class Point {
+        private final boolean field;
+        private final String name;
+        private final String typeName;
+        private final String beanId;
+        private final boolean required;
+        private final boolean lazy;
+
+        Point(boolean field, String name, String typeName, String beanId, boolean required, boolean lazy) {
+            this.field = field;
+            this.name = name;
+            this.typeName = typeName;
+            this.beanId = beanId;
+            this.required = required;
+            this.lazy = lazy;
+        }
+
+        public boolean isField() {
+            return field;
+        }
+
+        /**
+         * Nom du field, ou nom de la méthode pour un setter
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Nom binaire du type injecté (Class.getName)
+         */
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public String getBeanId() {
+            return beanId;
+        }
+
+        public boolean isRequired() {
+            return required;
+        }
+
+        public boolean isLazy() {
+            return lazy;
+        }
+    }
+}
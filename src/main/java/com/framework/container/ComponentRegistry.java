@@ -0,0 +1,13 @@
+package com.framework.container;
+
+/**
+ * Registre de composants généré à la compilation par le ComponentProcessor
+ * Enregistre les définitions (avec leurs fabriques) sans scan ni réflexion
+ */
+public interface ComponentRegistry {
+
+    /**
+     * Enregistre les définitions des composants dans le container
+     */
+    void registerComponents(BeanContainer container);
+}
@@ -0,0 +1,103 @@
+package com.framework.container;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surveillance des fichiers de configuration (WatchService sur leurs répertoires)
+ * Les événements proches sont regroupés (un éditeur écrit souvent un fichier en plusieurs fois) :
+ * le rechargement n'est déclenché qu'après une courte période sans nouvel événement
+ */
+final class ConfigWatcher implements Runnable {
+
+    private static final long QUIET_PERIOD_MS = 100;
+
+    private final ApplicationContext context;
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+    private volatile Set<Path> files = Collections.emptySet();
+    private final Thread thread;
+
+    ConfigWatcher(ApplicationContext context) throws IOException {
+        this.context = context;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this, "config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Surveille un ensemble de fichiers (chemins absolus), en remplacement du précédent
+     */
+    synchronized void watch(Set<Path> watchedFiles) throws IOException {
+        Set<Path> parents = new HashSet<>();
+        for (Path file : watchedFiles) {
+            parents.add(file.getParent());
+        }
+        for (Path directory : parents) {
+            if (!directories.containsKey(directory)) {
+                directories.put(directory, directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+            }
+        }
+        Iterator<Map.Entry<Path, WatchKey>> entries = directories.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Path, WatchKey> entry = entries.next();
+            if (!parents.contains(entry.getKey())) {
+                entry.getValue().cancel();
+                entries.remove();
+            }
+        }
+        files = watchedFiles;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = collect(key);
+                // Regrouper les événements qui suivent
+                while ((key = watchService.poll(QUIET_PERIOD_MS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= collect(key);
+                }
+                if (changed) {
+                    context.reloadQuietly();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Surveillance arrêtée
+        }
+    }
+
+    /**
+     * Vrai si un des événements de la clé concerne un fichier surveillé
+     */
+    private boolean collect(WatchKey key) {
+        boolean changed = false;
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true; // Événements perdus : recharger par précaution
+            } else if (files.contains(directory.resolve((Path) event.context()))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // Rien à libérer de plus
+        }
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,224 @@
+package com.framework.container;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métriques du container, toujours actives : compteurs répartis (LongAdder) sans verrou,
+ * une entrée par bean trouvé ou par type demandé, histogrammes de latence
+ * Permet de repérer un bean devenu prototype par erreur (créations qui montent avec les
+ * accès) ou une recherche par type qui retombe sur l'index faute d'ID (voir getTypeFallbacks)
+ */
+public final class ContainerMetrics {
+
+    private final ConcurrentHashMap<String, BeanMetrics> beans = new ConcurrentHashMap<>();
+    // Par nom de type : une clé Class retiendrait les classes (et leur class loader) après un redéploiement
+    private final ConcurrentHashMap<String, LongAdder> typeLookups = new ConcurrentHashMap<>();
+    private final LongAdder missingLookups = new LongAdder();
+    private final LongAdder typeFallbacks = new LongAdder();
+    private final LongAdder singletonHits = new LongAdder();
+    private final LongAdder singletonMisses = new LongAdder();
+    private final LongAdder prototypeCreations = new LongAdder();
+    private final LatencyHistogram creationLatency = new LatencyHistogram();
+    private final LatencyHistogram injectionLatency = new LatencyHistogram();
+    private volatile long startNanos = System.nanoTime();
+
+    ContainerMetrics() {
+    }
+
+    // Enregistrement (appelé par le container)
+
+    void recordLookup(String beanId, boolean found) {
+        if (found) {
+            bean(beanId).lookups.increment();
+        } else {
+            missingLookups.increment(); // Pas d'entrée par ID inconnu : la map resterait bornée
+        }
+    }
+
+    void recordTypeLookup(Class<?> type) {
+        String name = type.getName();
+        LongAdder counter = typeLookups.get(name);
+        if (counter == null) {
+            counter = typeLookups.computeIfAbsent(name, t -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    void recordTypeFallback() {
+        typeFallbacks.increment();
+    }
+
+    void recordSingletonHit() {
+        singletonHits.increment();
+    }
+
+    void recordSingletonMiss() {
+        singletonMisses.increment();
+    }
+
+    void recordCreation(BeanDefinition definition, long nanos) {
+        bean(definition.getId()).creations.increment();
+        if (!definition.isSingleton() && definition.getCustomScope() == null) {
+            prototypeCreations.increment();
+        }
+        creationLatency.record(nanos);
+    }
+
+    void recordInjection(long nanos) {
+        injectionLatency.record(nanos);
+    }
+
+    private BeanMetrics bean(String beanId) {
+        BeanMetrics metrics = beans.get(beanId);
+        if (metrics == null) {
+            metrics = beans.computeIfAbsent(beanId, id -> new BeanMetrics());
+        }
+        return metrics;
+    }
+
+    // Lecture
+
+    /**
+     * Nombre d'appels getBean(id) ayant trouvé ce bean (un getBean(type) n'est compté que par type)
+     */
+    public long getLookups(String beanId) {
+        BeanMetrics metrics = beans.get(beanId);
+        return metrics != null ? metrics.lookups.sum() : 0;
+    }
+
+    /**
+     * Appels getBean(id) par ID, triés par ID
+     */
+    public Map<String, Long> getLookupsById() {
+        Map<String, Long> lookups = new TreeMap<>();
+        beans.forEach((id, metrics) -> {
+            long sum = metrics.lookups.sum();
+            if (sum > 0) {
+                lookups.put(id, sum);
+            }
+        });
+        return lookups;
+    }
+
+    /**
+     * Appels getBean(type) par nom de type, triés par nom
+     */
+    public Map<String, Long> getLookupsByType() {
+        Map<String, Long> lookups = new TreeMap<>();
+        typeLookups.forEach((type, counter) -> lookups.put(type, counter.sum()));
+        return lookups;
+    }
+
+    /**
+     * Appels getBean(id) pour un ID inconnu
+     */
+    public long getMissingLookups() {
+        return missingLookups.sum();
+    }
+
+    /**
+     * Recherches par type dont l'ID n'existait pas et qui ont dû consulter l'index des types
+     */
+    public long getTypeFallbacks() {
+        return typeFallbacks.sum();
+    }
+
+    /**
+     * Singletons trouvés déjà créés (lecture sans verrou)
+     */
+    public long getSingletonHits() {
+        return singletonHits.sum();
+    }
+
+    /**
+     * Singletons absents du cache : création, ou attente de la création par un autre thread
+     */
+    public long getSingletonMisses() {
+        return singletonMisses.sum();
+    }
+
+    /**
+     * Instances créées pour un bean
+     */
+    public long getCreations(String beanId) {
+        BeanMetrics metrics = beans.get(beanId);
+        return metrics != null ? metrics.creations.sum() : 0;
+    }
+
+    /**
+     * Instances créées par bean, triées par ID
+     */
+    public Map<String, Long> getCreationsById() {
+        Map<String, Long> creations = new TreeMap<>();
+        beans.forEach((id, metrics) -> {
+            long sum = metrics.creations.sum();
+            if (sum > 0) {
+                creations.put(id, sum);
+            }
+        });
+        return creations;
+    }
+
+    public long getPrototypeCreations() {
+        return prototypeCreations.sum();
+    }
+
+    /**
+     * Prototypes créés par seconde depuis le démarrage du container (ou le dernier reset)
+     */
+    public double getPrototypeCreationRate() {
+        double seconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        return seconds > 0 ? getPrototypeCreations() / seconds : 0;
+    }
+
+    /**
+     * Durée des créations de beans (dépendances et injection comprises)
+     */
+    public LatencyHistogram getCreationLatency() {
+        return creationLatency;
+    }
+
+    /**
+     * Durée des injections de propriétés (BeanInjector.injectByDefinition) ; pour une fabrique
+     * compilée (prototype) ou générée (ComponentRegistry), construction et injection sont
+     * fusionnées et la durée de la fabrique entière est comptée
+     */
+    public LatencyHistogram getInjectionLatency() {
+        return injectionLatency;
+    }
+
+    /**
+     * Remet toutes les métriques à zéro (les enregistrements concurrents peuvent être perdus)
+     */
+    public void reset() {
+        beans.clear();
+        typeLookups.clear();
+        missingLookups.reset();
+        typeFallbacks.reset();
+        singletonHits.reset();
+        singletonMisses.reset();
+        prototypeCreations.reset();
+        creationLatency.reset();
+        injectionLatency.reset();
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "singletons: " + getSingletonHits() + " hits / " + getSingletonMisses() + " misses"
+                + ", prototypes créés: " + getPrototypeCreations()
+                + ", recherches par type hors ID: " + getTypeFallbacks()
+                + ", IDs inconnus: " + getMissingLookups()
+                + "\ncréation: " + creationLatency
+                + "\ninjection: " + injectionLatency;
+    }
+
+    private static final class BeanMetrics {
+        final LongAdder lookups = new LongAdder();
+        final LongAdder creations = new LongAdder();
+    }
+}
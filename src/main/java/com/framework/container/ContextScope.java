@@ -0,0 +1,94 @@
+package com.framework.container;
+
+import com.framework.exception.DependencyInjectionException;
+
+import java.util.function.Supplier;
+
+/**
+ * Portée liée à un contexte géré par l'appelant (requête, unité de travail)
+ * Le contexte courant est attaché au thread ; la recherche est une lecture de ThreadLocal
+ * puis de la table du contexte, sans verrou global
+ *
+ * - begin() : ouvre un contexte et l'attache au thread courant jusqu'à sa fermeture (requête)
+ * - open() puis attach(context) : un même contexte attaché à plusieurs threads (unité de travail),
+ *   terminé par context.close() une fois le travail fini
+ */
+public class ContextScope implements BeanScope {
+
+    private final String name;
+    private final ThreadLocal<ScopeContext> current = new ThreadLocal<>();
+
+    public ContextScope(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Object get(String beanId, Supplier<Object> factory) {
+        ScopeContext context = current.get();
+        if (context == null || context.isClosed()) {
+            throw new DependencyInjectionException(
+                "Aucun contexte actif pour la portée '" + name + "' (bean: " + beanId + ")"
+            );
+        }
+        return context.get(beanId, factory);
+    }
+
+    /**
+     * Ouvre un contexte attaché au thread courant ; sa fermeture (dans ce même thread)
+     * rétablit le contexte précédent et libère ses instances
+     */
+    public ScopeContext begin() {
+        ScopeContext previous = current.get();
+        ScopeContext context = new ScopeContext();
+        context.setOnClose(() -> {
+            if (current.get() == context) {
+                restore(previous);
+            }
+        });
+        current.set(context);
+        return context;
+    }
+
+    /**
+     * Ouvre un contexte sans l'attacher (voir attach)
+     */
+    public ScopeContext open() {
+        return new ScopeContext();
+    }
+
+    /**
+     * Attache un contexte au thread courant jusqu'à la fermeture de l'attachement
+     */
+    public Attachment attach(ScopeContext context) {
+        ScopeContext previous = current.get();
+        current.set(context);
+        return new Attachment(previous);
+    }
+
+    private void restore(ScopeContext previous) {
+        if (previous != null) {
+            current.set(previous);
+        } else {
+            current.remove();
+        }
+    }
+
+    /**
+     * Attachement d'un contexte au thread courant
+     */
+    public final class Attachment implements AutoCloseable {
+        private final ScopeContext previous;
+
+        private Attachment(ScopeContext previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Détache le contexte (sans le terminer) et rétablit le précédent
+         */
+        @Override
+        public void close() {
+            restore(previous);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.framework.container;
+
+import com.framework.exception.DependencyInjectionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Verrous de création des singletons, un par bean, avec détection des attentes circulaires
+ * La pile de résolution d'un thread ne voit pas un cycle réparti sur plusieurs threads
+ * (le thread 1 détient A et attend B, le thread 2 détient B et attend A) : chaque thread
+ * en attente publie le bean qu'il attend, et le graphe d'attente (bean -> propriétaire
+ * -> bean attendu -> ...) est parcouru avant et pendant l'attente
+ */
+final class CreationLocks {
+
+    // Intervalle de revérification pendant une attente : un cycle peut se former après son début
+    private static final long CHECK_INTERVAL_MS = 20;
+
+    private final ConcurrentHashMap<String, OwnedLock> locks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Thread, String> waiting = new ConcurrentHashMap<>();
+
+    /**
+     * Acquiert le verrou de création d'un bean ; lève une DependencyInjectionException
+     * si l'attente fermerait un cycle entre threads
+     */
+    void lock(String beanId) {
+        OwnedLock lock = locks.computeIfAbsent(beanId, id -> new OwnedLock());
+        if (lock.tryLock()) {
+            return;
+        }
+        Thread current = Thread.currentThread();
+        waiting.put(current, beanId);
+        try {
+            do {
+                checkWaitCycle(beanId, current);
+            } while (!lock.tryLock(CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            current.interrupt();
+            throw new DependencyInjectionException("Attente interrompue pour le bean: " + beanId, e);
+        } finally {
+            waiting.remove(current);
+        }
+    }
+
+    void unlock(String beanId) {
+        locks.get(beanId).unlock();
+    }
+
+    void clear() {
+        locks.clear();
+    }
+
+    /**
+     * Suit le graphe d'attente depuis le bean attendu ; revenir au thread courant signifie
+     * que chaque thread du cycle attend un bean détenu par le suivant
+     */
+    private void checkWaitCycle(String beanId, Thread current) {
+        List<String> chain = new ArrayList<>();
+        String bean = beanId;
+        while (bean != null && chain.size() <= waiting.size()) {
+            OwnedLock lock = locks.get(bean);
+            Thread owner = lock != null ? lock.owner() : null;
+            if (owner == null) {
+                return;
+            }
+            chain.add(bean);
+            if (owner == current) {
+                chain.add(beanId);
+                throw new DependencyInjectionException("Dépendance circulaire détectée pour le bean: " + beanId
+                        + " (attente entre threads : " + String.join(" -> ", chain) + ")");
+            }
+            bean = waiting.get(owner);
+        }
+    }
+
+    private static final class OwnedLock extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        Thread owner() {
+            return getOwner();
+        }
+    }
+}
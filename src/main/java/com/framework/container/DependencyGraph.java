@@ -0,0 +1,176 @@
+package com.framework.container;
+
+import java.util.*;
+
+/**
+ * Graphe des dépendances entre définitions de beans
+ * Construit à partir des références XML (constructor-arg / property) et des points @Autowired,
+ * sans instancier aucun bean
+ */
+final class DependencyGraph {
+
+    private final Map<String, List<String>> dependencies = new TreeMap<>();
+    private final Map<String, List<String>> dependents = new TreeMap<>();
+
+    private DependencyGraph() {
+    }
+
+    /**
+     * Construit le graphe des définitions enregistrées dans le container
+     */
+    static DependencyGraph build(BeanContainer container) {
+        DependencyGraph graph = new DependencyGraph();
+        Collection<BeanDefinition> definitions = container.getDefinitions();
+        for (BeanDefinition definition : definitions) {
+            graph.dependencies.put(definition.getId(), new ArrayList<>());
+            graph.dependents.put(definition.getId(), new ArrayList<>());
+        }
+        for (BeanDefinition definition : definitions) {
+            for (String target : dependencyIds(container, definition)) {
+                graph.addEdge(definition.getId(), target);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * IDs référencés par une définition, dans l'ordre où ils seront résolus
+     */
+    static Set<String> dependencyIds(BeanContainer container, BeanDefinition definition) {
+        Set<String> ids = new LinkedHashSet<>();
+        InjectionMode mode = definition.getInjectionMode();
+        if (mode == InjectionMode.CONSTRUCTOR) {
+            addRefs(ids, definition.getConstructorArgRefs());
+        } else if (mode == InjectionMode.SETTER || mode == InjectionMode.FIELD) {
+            addRefs(ids, definition.getPropertyRefs().values());
+        } else if (definition.getBeanClass() != null) {
+            for (InjectionPlan.InjectionPoint point : InjectionPlan.autowired(definition)) {
+                addAutowired(ids, container, point);
+            }
+        }
+        return ids;
+    }
+
+    private static void addRefs(Set<String> ids, Collection<String> refs) {
+        for (String ref : refs) {
+            if (ref != null && !ref.isEmpty()) {
+                ids.add(ref);
+            }
+        }
+    }
+
+    /**
+     * Même résolution que l'injection : l'ID qualifié s'il existe, sinon le premier candidat du type
+     * Un point qui recevra un proxy paresseux n'impose aucun ordre de création
+     */
+    private static void addAutowired(Set<String> ids, BeanContainer container, InjectionPlan.InjectionPoint point) {
+        String target = container.resolveAutowiredId(point.getBeanId(), point.getType());
+        if (target != null && !container.isLazyInjection(target, point.getType(), point.isLazy())) {
+            ids.add(target);
+        }
+    }
+
+    private void addEdge(String from, String to) {
+        if (!dependencies.containsKey(to)) {
+            // Singleton enregistré directement ou référence inconnue : rien à créer
+            return;
+        }
+        dependencies.get(from).add(to);
+        dependents.get(to).add(from);
+    }
+
+    /**
+     * Dépendances directes d'un bean (définitions uniquement)
+     */
+    List<String> getDependencies(String beanId) {
+        return dependencies.getOrDefault(beanId, Collections.emptyList());
+    }
+
+    /**
+     * Beans qui dépendent directement d'un bean
+     */
+    List<String> getDependents(String beanId) {
+        return dependents.getOrDefault(beanId, Collections.emptyList());
+    }
+
+    Set<String> getBeanIds() {
+        return dependencies.keySet();
+    }
+
+    /**
+     * Beans donnés et tous ceux qui en dépendent transitivement, chacun après ses dépendances
+     * (ordre postfixe inversé d'un parcours en profondeur sur les dépendants, en O(V+E) du sous-graphe)
+     * Les IDs sans définition sont ignorés
+     */
+    List<String> getDependentsClosure(Collection<String> beanIds) {
+        Deque<String> order = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> path = new ArrayDeque<>();
+        Deque<Iterator<String>> iterators = new ArrayDeque<>();
+        for (String root : new TreeSet<>(beanIds)) {
+            if (!dependencies.containsKey(root) || !visited.add(root)) {
+                continue;
+            }
+            path.push(root);
+            iterators.push(dependents.get(root).iterator());
+            while (!path.isEmpty()) {
+                Iterator<String> next = iterators.peek();
+                if (next.hasNext()) {
+                    String dependent = next.next();
+                    if (visited.add(dependent)) {
+                        path.push(dependent);
+                        iterators.push(dependents.get(dependent).iterator());
+                    }
+                } else {
+                    iterators.pop();
+                    order.addFirst(path.pop());
+                }
+            }
+        }
+        return new ArrayList<>(order);
+    }
+
+    /**
+     * Découpe le graphe en niveaux (tri topologique de Kahn) : les beans d'un niveau ne
+     * dépendent que des niveaux précédents et peuvent être créés en parallèle
+     * Les beans pris dans un cycle ne figurent dans aucun niveau (voir getCyclicBeans)
+     */
+    List<List<String>> levels() {
+        Map<String, Integer> remaining = new HashMap<>();
+        List<String> current = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : dependencies.entrySet()) {
+            int count = entry.getValue().size();
+            remaining.put(entry.getKey(), count);
+            if (count == 0) {
+                current.add(entry.getKey());
+            }
+        }
+
+        List<List<String>> levels = new ArrayList<>();
+        while (!current.isEmpty()) {
+            levels.add(current);
+            List<String> next = new ArrayList<>();
+            for (String beanId : current) {
+                for (String dependent : dependents.get(beanId)) {
+                    if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            Collections.sort(next);
+            current = next;
+        }
+        return levels;
+    }
+
+    /**
+     * Beans appartenant à un cycle (ou en dépendant), absents des niveaux
+     */
+    Set<String> getCyclicBeans() {
+        Set<String> cyclic = new TreeSet<>(dependencies.keySet());
+        for (List<String> level : levels()) {
+            cyclic.removeAll(level);
+        }
+        return cyclic;
+    }
+}
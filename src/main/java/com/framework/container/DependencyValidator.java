@@ -0,0 +1,174 @@
+package com.framework.container;
+
+import java.util.*;
+
+/**
+ * Validation statique des dépendances, sans rien instancier : références inconnues,
+ * points @Autowired obligatoires sans candidat et cycles (composantes fortement connexes
+ * de Tarjan, en O(V+E))
+ * Tous les problèmes sont retournés ensemble, dans un ordre stable (IDs triés)
+ */
+final class DependencyValidator {
+
+    private DependencyValidator() {
+    }
+
+    static List<String> validate(BeanContainer container, DependencyGraph graph) {
+        List<String> problems = new ArrayList<>();
+        List<BeanDefinition> definitions = new ArrayList<>(container.getDefinitions());
+        definitions.sort(Comparator.comparing(BeanDefinition::getId));
+        for (BeanDefinition definition : definitions) {
+            checkReferences(container, definition, problems);
+        }
+        for (List<String> cycle : cycles(graph)) {
+            problems.add("Dépendance circulaire : " + String.join(" -> ", cycle));
+        }
+        return problems;
+    }
+
+    /**
+     * Références utilisées par le mode d'injection de la définition (comme DependencyGraph)
+     */
+    private static void checkReferences(BeanContainer container, BeanDefinition definition, List<String> problems) {
+        String beanId = definition.getId();
+        InjectionMode mode = definition.getInjectionMode();
+        if (mode == InjectionMode.CONSTRUCTOR) {
+            List<String> refs = definition.getConstructorArgRefs();
+            for (int i = 0; i < refs.size(); i++) {
+                checkReference(container, beanId, refs.get(i), "argument " + i + " du constructeur", problems);
+            }
+        } else if (mode == InjectionMode.SETTER || mode == InjectionMode.FIELD) {
+            for (Map.Entry<String, String> property : new TreeMap<>(definition.getPropertyRefs()).entrySet()) {
+                checkReference(container, beanId, property.getValue(), "propriété '" + property.getKey() + "'", problems);
+            }
+        } else if (definition.getBeanClass() != null) {
+            checkAutowired(container, beanId, InjectionPlan.autowired(definition), problems);
+        }
+    }
+
+    private static void checkReference(BeanContainer container, String beanId, String ref, String target,
+                                       List<String> problems) {
+        if (ref != null && !ref.isEmpty() && !container.isRegistered(ref)) {
+            problems.add("Bean '" + beanId + "' : référence inconnue '" + ref + "' (" + target + ")");
+        }
+    }
+
+    private static void checkAutowired(BeanContainer container, String beanId,
+                                       List<InjectionPlan.InjectionPoint> points, List<String> problems) {
+        for (InjectionPlan.InjectionPoint point : points) {
+            if (point.isRequired() && container.resolveAutowiredId(point.getBeanId(), point.getType()) == null) {
+                problems.add("Bean '" + beanId + "' : aucun bean pour @Autowired '" + point.getName()
+                        + "' (type " + point.getType().getName() + ")");
+            }
+        }
+    }
+
+    /**
+     * Un cycle par composante fortement connexe (plus d'un bean, ou un bean qui dépend de lui-même),
+     * depuis son plus petit ID et refermé sur lui
+     */
+    static List<List<String>> cycles(DependencyGraph graph) {
+        List<List<String>> cycles = new ArrayList<>();
+        for (Set<String> component : stronglyConnected(graph)) {
+            String start = Collections.min(component);
+            if (component.size() > 1 || graph.getDependencies(start).contains(start)) {
+                cycles.add(cycleFrom(graph, start, component));
+            }
+        }
+        cycles.sort(Comparator.comparing(cycle -> cycle.get(0)));
+        return cycles;
+    }
+
+    /**
+     * Algorithme de Tarjan, itératif (pas de récursion sur un graphe profond)
+     */
+    private static List<Set<String>> stronglyConnected(DependencyGraph graph) {
+        Map<String, Integer> index = new HashMap<>();
+        Map<String, Integer> low = new HashMap<>();
+        Deque<String> stack = new ArrayDeque<>();
+        Set<String> onStack = new HashSet<>();
+        List<Set<String>> components = new ArrayList<>();
+
+        Deque<String> path = new ArrayDeque<>();
+        Deque<Iterator<String>> edges = new ArrayDeque<>();
+        for (String root : graph.getBeanIds()) {
+            if (index.containsKey(root)) {
+                continue;
+            }
+            visit(root, index, low, stack, onStack, path, edges, graph);
+            while (!path.isEmpty()) {
+                String node = path.peek();
+                Iterator<String> next = edges.peek();
+                if (next.hasNext()) {
+                    String target = next.next();
+                    if (!index.containsKey(target)) {
+                        visit(target, index, low, stack, onStack, path, edges, graph);
+                    } else if (onStack.contains(target)) {
+                        low.put(node, Math.min(low.get(node), index.get(target)));
+                    }
+                    continue;
+                }
+                path.pop();
+                edges.pop();
+                if (!path.isEmpty()) {
+                    String parent = path.peek();
+                    low.put(parent, Math.min(low.get(parent), low.get(node)));
+                }
+                if (low.get(node).equals(index.get(node))) {
+                    Set<String> component = new TreeSet<>();
+                    String member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                    } while (!member.equals(node));
+                    components.add(component);
+                }
+            }
+        }
+        return components;
+    }
+
+    private static void visit(String node, Map<String, Integer> index, Map<String, Integer> low, Deque<String> stack,
+                              Set<String> onStack, Deque<String> path, Deque<Iterator<String>> edges,
+                              DependencyGraph graph) {
+        int order = index.size();
+        index.put(node, order);
+        low.put(node, order);
+        stack.push(node);
+        onStack.add(node);
+        path.push(node);
+        edges.push(graph.getDependencies(node).iterator());
+    }
+
+    /**
+     * Plus court chemin (parcours en largeur dans la composante) de start à lui-même
+     */
+    private static List<String> cycleFrom(DependencyGraph graph, String start, Set<String> component) {
+        Map<String, String> previous = new HashMap<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(start);
+        String last = start;
+        search:
+        while (!queue.isEmpty()) {
+            String node = queue.poll();
+            for (String target : graph.getDependencies(node)) {
+                if (target.equals(start)) {
+                    last = node;
+                    break search;
+                }
+                if (component.contains(target) && !previous.containsKey(target)) {
+                    previous.put(target, node);
+                    queue.add(target);
+                }
+            }
+        }
+        LinkedList<String> cycle = new LinkedList<>();
+        cycle.add(start);
+        for (String node = last; !node.equals(start); node = previous.get(node)) {
+            cycle.addFirst(node);
+        }
+        cycle.addFirst(start);
+        return cycle;
+    }
+}
@@ -0,0 +1,452 @@
+package com.framework.container;
+
+import com.framework.annotations.Autowired;
+import com.framework.annotations.Lazy;
+import com.framework.annotations.Qualifier;
+import com.framework.exception.DependencyInjectionException;
+import com.framework.utils.Accessors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Plan d'injection précalculé pour une classe de bean
+ * Les points d'injection sont découverts une seule fois par classe puis partagés
+ * par tous les conteneurs : l'injection rejoue le plan sans aucun scan de réflexion
+ * Les annotations @Autowired ne sont lues qu'à la première demande : un composant dont les
+ * points viennent de l'index (ComponentIndex) ne les lit jamais
+ */
+final class InjectionPlan {
+
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<InjectionPlan>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private final Class<?> beanClass;
+    private final List<MemberWriter> fieldWriters;
+    private final List<MemberWriter> setterWriters;
+    private final Map<String, MemberWriter> settersByProperty;
+    private final Map<String, MemberWriter> fieldsByName;
+    private final List<ConstructorAccessor> constructors;
+    private final ConstructorAccessor defaultConstructor;
+
+    // Lus à la première demande (course sans effet : deux lectures équivalentes)
+    private volatile List<InjectionPoint> autowiredFields;
+    private volatile List<InjectionPoint> autowiredSetters;
+
+    private InjectionPlan(Class<?> beanClass) {
+        this.beanClass = beanClass;
+
+        List<MemberWriter> fields = new ArrayList<>();
+        Map<String, MemberWriter> byName = new HashMap<>();
+        for (Field field : beanClass.getDeclaredFields()) {
+            MemberWriter writer = new MemberWriter(field, null, field.getType());
+            fields.add(writer);
+            byName.put(field.getName(), writer);
+        }
+
+        List<MemberWriter> setters = new ArrayList<>();
+        Map<String, MemberWriter> byProperty = new HashMap<>();
+        for (Method method : beanClass.getDeclaredMethods()) {
+            if (!isSetter(method)) {
+                continue;
+            }
+            MemberWriter writer = new MemberWriter(null, method, method.getParameterTypes()[0]);
+            setters.add(writer);
+            registerSetter(byProperty, method, writer);
+        }
+
+        List<ConstructorAccessor> ctors = new ArrayList<>();
+        ConstructorAccessor noArg = null;
+        for (Constructor<?> constructor : beanClass.getDeclaredConstructors()) {
+            ConstructorAccessor accessor = new ConstructorAccessor(constructor);
+            ctors.add(accessor);
+            if (constructor.getParameterCount() == 0) {
+                noArg = accessor;
+            }
+        }
+
+        this.fieldWriters = Collections.unmodifiableList(fields);
+        this.setterWriters = Collections.unmodifiableList(setters);
+        this.settersByProperty = Collections.unmodifiableMap(byProperty);
+        this.fieldsByName = Collections.unmodifiableMap(byName);
+        this.constructors = Collections.unmodifiableList(ctors);
+        this.defaultConstructor = noArg;
+    }
+
+    /**
+     * Obtient le plan d'injection (mis en cache) d'une classe
+     */
+    static InjectionPlan forClass(Class<?> beanClass) {
+        return PLANS.get(beanClass);
+    }
+
+    /**
+     * Points @Autowired d'une définition, fields puis setters : ceux de l'index des composants
+     * s'il les donne, sinon ceux des annotations de la classe. Calculés une fois par définition
+     */
+    static List<InjectionPoint> autowired(BeanDefinition definition) {
+        List<InjectionPoint> points = definition.getAutowiredPoints();
+        if (points == null) {
+            InjectionPlan plan = forClass(definition.getBeanClass());
+            List<ComponentIndex.Point> indexed = definition.getIndexedPoints();
+            points = indexed != null ? plan.fromIndex(indexed) : null;
+            if (points == null) {
+                points = new ArrayList<>(plan.getAutowiredFields());
+                points.addAll(plan.getAutowiredSetters());
+            }
+            points = Collections.unmodifiableList(points);
+            definition.setAutowiredPoints(points);
+        }
+        return points;
+    }
+
+    /**
+     * Points décrits par l'index, liés aux membres du plan sans lire d'annotation ;
+     * null si l'index ne correspond plus à la classe (membre absent ou de type différent)
+     */
+    private List<InjectionPoint> fromIndex(List<ComponentIndex.Point> indexed) {
+        List<InjectionPoint> points = new ArrayList<>(indexed.size());
+        for (ComponentIndex.Point point : indexed) {
+            MemberWriter writer = point.isField()
+                    ? fieldsByName.get(point.getName())
+                    : findSetter(point.getName(), point.getTypeName());
+            if (writer == null || !writer.getType().getName().equals(point.getTypeName())) {
+                return null;
+            }
+            points.add(new InjectionPoint(writer, point.getBeanId(), point.isRequired(), point.isLazy()));
+        }
+        return points;
+    }
+
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Fields annotés avec @Autowired, dans l'ordre de déclaration
+     */
+    List<InjectionPoint> getAutowiredFields() {
+        List<InjectionPoint> points = autowiredFields;
+        if (points == null) {
+            points = new ArrayList<>();
+            for (MemberWriter writer : fieldWriters) {
+                Autowired autowired = writer.field.getAnnotation(Autowired.class);
+                if (autowired != null) {
+                    points.add(new InjectionPoint(writer, qualifiedId(writer.field), autowired.required(),
+                            isLazy(writer.field)));
+                }
+            }
+            points = Collections.unmodifiableList(points);
+            autowiredFields = points;
+        }
+        return points;
+    }
+
+    /**
+     * Setters annotés avec @Autowired, dans l'ordre de déclaration
+     */
+    List<InjectionPoint> getAutowiredSetters() {
+        List<InjectionPoint> points = autowiredSetters;
+        if (points == null) {
+            points = new ArrayList<>();
+            for (MemberWriter writer : setterWriters) {
+                Autowired autowired = writer.setter.getAnnotation(Autowired.class);
+                if (autowired != null) {
+                    points.add(new InjectionPoint(writer, qualifiedId(writer.setter), autowired.required(),
+                            isLazy(writer.setter)));
+                }
+            }
+            points = Collections.unmodifiableList(points);
+            autowiredSetters = points;
+        }
+        return points;
+    }
+
+    /**
+     * Trouve un setter par son nom et le nom binaire du type de son paramètre
+     */
+    MemberWriter findSetter(String methodName, String typeName) {
+        for (MemberWriter writer : setterWriters) {
+            if (writer.setter.getName().equals(methodName) && writer.getType().getName().equals(typeName)) {
+                return writer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Trouve le setter d'une propriété ("name" -> setName)
+     */
+    MemberWriter findSetter(String propertyName) {
+        return settersByProperty.get(propertyName);
+    }
+
+    /**
+     * Trouve un field déclaré par son nom
+     */
+    MemberWriter findField(String fieldName) {
+        return fieldsByName.get(fieldName);
+    }
+
+    /**
+     * Constructeurs déclarés, dans l'ordre de getDeclaredConstructors()
+     */
+    List<ConstructorAccessor> getConstructors() {
+        return constructors;
+    }
+
+    /**
+     * Constructeur sans argument, ou null s'il n'existe pas
+     */
+    ConstructorAccessor getDefaultConstructor() {
+        return defaultConstructor;
+    }
+
+    /**
+     * Indexe un setter sous les noms de propriété qui le désignent
+     * (la propriété p correspond au setter "set" + majuscule(p[0]) + reste)
+     */
+    private static void registerSetter(Map<String, MemberWriter> byProperty, Method method, MemberWriter writer) {
+        String suffix = method.getName().substring(3);
+        if (suffix.isEmpty()) {
+            return;
+        }
+        char first = suffix.charAt(0);
+        if (Character.toUpperCase(first) != first) {
+            return;
+        }
+        byProperty.putIfAbsent(suffix, writer);
+        byProperty.putIfAbsent(Character.toLowerCase(first) + suffix.substring(1), writer);
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set") &&
+               method.getParameterCount() == 1 &&
+               method.getReturnType() == void.class;
+    }
+
+    /**
+     * ID du bean à injecter dans un field : @Qualifier ou nom simple du type
+     */
+    private static String qualifiedId(Field field) {
+        Qualifier qualifier = field.getAnnotation(Qualifier.class);
+        return qualifier != null ? qualifier.value() : field.getType().getSimpleName();
+    }
+
+    /**
+     * ID du bean à injecter via un setter : @Qualifier sur le paramètre ou nom simple du type
+     */
+    private static String qualifiedId(Method method) {
+        Parameter param = method.getParameters()[0];
+        Qualifier qualifier = param.getAnnotation(Qualifier.class);
+        return qualifier != null ? qualifier.value() : param.getType().getSimpleName();
+    }
+
+    /**
+     * Un point d'injection est paresseux s'il porte @Lazy (sur le setter ou son paramètre)
+     */
+    private static boolean isLazy(Field field) {
+        Lazy lazy = field.getAnnotation(Lazy.class);
+        return lazy != null && lazy.value();
+    }
+
+    private static boolean isLazy(Method method) {
+        Lazy lazy = method.getAnnotation(Lazy.class);
+        if (lazy == null) {
+            lazy = method.getParameters()[0].getAnnotation(Lazy.class);
+        }
+        return lazy != null && lazy.value();
+    }
+
+    /**
+     * Écriture d'une valeur dans un field ou via un setter
+     * L'accès est lié à la construction du plan (champ final, jamais réaffecté) ; le handle brut,
+     * utilisé seulement pour compiler les fabriques, est lié au premier besoin
+     */
+    static final class MemberWriter {
+        private final Field field;
+        private final Method setter;
+        private final Class<?> type;
+        private final Accessors.Writer writer;
+        private final IllegalAccessException bindFailure;
+        private MethodHandle handle; // Course sans effet : deux liaisons équivalentes
+
+        MemberWriter(Field field, Method setter, Class<?> type) {
+            this.field = field;
+            this.setter = setter;
+            this.type = type;
+            Accessors.Writer bound = null;
+            IllegalAccessException failure = null;
+            try {
+                bound = field != null ? Accessors.bind(field) : Accessors.bind(setter);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // Membre inaccessible (module fermé...) : l'erreur n'est levée qu'à l'écriture
+                failure = bindFailure(e);
+            }
+            this.writer = bound;
+            this.bindFailure = failure;
+        }
+
+        Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Type générique de la valeur écrite (ex. List<Integer>), pour la conversion des littéraux
+         */
+        Type getGenericType() {
+            return field != null ? field.getGenericType() : setter.getGenericParameterTypes()[0];
+        }
+
+        String getName() {
+            return field != null ? field.getName() : setter.getName();
+        }
+
+        boolean isField() {
+            return field != null;
+        }
+
+        /**
+         * Écrit la valeur ; une exception contrôlée levée par le setter (ou l'échec de liaison)
+         * est enveloppée, les RuntimeException et les Error sont propagées telles quelles
+         */
+        void write(Object target, Object value) {
+            try {
+                if (writer == null) {
+                    throw bindFailure;
+                }
+                writer.write(target, value);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new DependencyInjectionException("Erreur lors de l'écriture de: " + getName(), e);
+            }
+        }
+
+        /**
+         * Handle d'écriture de forme (Object cible, Object valeur) -> void
+         */
+        MethodHandle handle() throws IllegalAccessException {
+            if (writer == null) {
+                throw bindFailure;
+            }
+            MethodHandle bound = handle;
+            if (bound == null) {
+                bound = field != null ? Accessors.writer(field) : Accessors.writer(setter);
+                handle = bound;
+            }
+            return bound;
+        }
+    }
+
+    /**
+     * Constructeur déclaré avec son instanciateur, lié à la construction du plan
+     */
+    static final class ConstructorAccessor {
+        private final Constructor<?> constructor;
+        private final Class<?>[] parameterTypes;
+        private final Accessors.Instantiator instantiator;
+        private final IllegalAccessException bindFailure;
+
+        ConstructorAccessor(Constructor<?> constructor) {
+            this.constructor = constructor;
+            this.parameterTypes = constructor.getParameterTypes();
+            Accessors.Instantiator bound = null;
+            IllegalAccessException failure = null;
+            try {
+                bound = Accessors.bind(constructor);
+            } catch (IllegalAccessException | RuntimeException e) {
+                failure = bindFailure(e);
+            }
+            this.instantiator = bound;
+            this.bindFailure = failure;
+        }
+
+        Constructor<?> getConstructor() {
+            return constructor;
+        }
+
+        int getParameterCount() {
+            return parameterTypes.length;
+        }
+
+        Class<?> getParameterType(int index) {
+            return parameterTypes[index];
+        }
+
+        /**
+         * Crée une instance ; même traitement des exceptions que MemberWriter.write
+         */
+        Object newInstance(Object[] args) {
+            try {
+                if (instantiator == null) {
+                    throw bindFailure;
+                }
+                return instantiator.newInstance(args);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new DependencyInjectionException("Erreur lors de l'appel du constructeur: " + constructor, e);
+            }
+        }
+    }
+
+    private static IllegalAccessException bindFailure(Exception e) {
+        if (e instanceof IllegalAccessException) {
+            return (IllegalAccessException) e;
+        }
+        IllegalAccessException failure = new IllegalAccessException(e.getMessage());
+        failure.initCause(e);
+        return failure;
+    }
+
+    /**
+     * Point d'injection @Autowired (field ou setter) avec sa cible résolue
+     */
+    static final class InjectionPoint {
+        private final MemberWriter writer;
+        private final String beanId;
+        private final boolean required;
+        private final boolean lazy;
+
+        InjectionPoint(MemberWriter writer, String beanId, boolean required, boolean lazy) {
+            this.writer = writer;
+            this.beanId = beanId;
+            this.required = required;
+            this.lazy = lazy;
+        }
+
+        MemberWriter getWriter() {
+            return writer;
+        }
+
+        Class<?> getType() {
+            return writer.getType();
+        }
+
+        String getBeanId() {
+            return beanId;
+        }
+
+        boolean isRequired() {
+            return required;
+        }
+
+        boolean isLazy() {
+            return lazy;
+        }
+
+        String getName() {
+            return writer.getName();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.framework.container;
+
+import com.framework.exception.DependencyInjectionException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Proxy injecté à la place d'un bean paresseux
+ * La cible est obtenue du container au premier appel, puis chaque appel lui est délégué
+ * equals et hashCode portent sur l'identité du proxy (sans créer la cible) : le proxy reste
+ * égal à lui-même et utilisable dans une HashMap ; toString est délégué
+ * Les méthodes sont appelées via une copie accessible (mise en cache par Method) : une
+ * interface package-private hors de ce package reste utilisable
+ */
+final class LazyProxy implements InvocationHandler {
+
+    private static final ClassValue<Map<Method, Method>> ACCESSIBLE = new ClassValue<Map<Method, Method>>() {
+        @Override
+        protected Map<Method, Method> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final BeanContainer container;
+    private final String beanId;
+    private volatile Object target;
+
+    private LazyProxy(BeanContainer container, String beanId) {
+        this.container = container;
+        this.beanId = beanId;
+    }
+
+    /**
+     * Crée un proxy implémentant l'interface demandée
+     */
+    static Object create(BeanContainer container, String beanId, Class<?> type) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                new LazyProxy(container, beanId));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+        }
+        try {
+            return accessible(method).invoke(target(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Copie accessible de la méthode (le Method partagé par la classe proxy n'est pas modifié)
+     */
+    private static Method accessible(Method method) {
+        return ACCESSIBLE.get(method.getDeclaringClass()).computeIfAbsent(method, m -> {
+            try {
+                Method copy = m.getDeclaringClass().getDeclaredMethod(m.getName(), m.getParameterTypes());
+                copy.setAccessible(true);
+                return copy;
+            } catch (NoSuchMethodException | RuntimeException e) {
+                throw new DependencyInjectionException("Méthode inaccessible via le proxy paresseux: " + m, e);
+            }
+        });
+    }
+
+    private Object target() {
+        Object instance = target;
+        if (instance == null) {
+            // getBean garantit déjà une seule création : une course ne fait que relire le singleton
+            instance = container.getBean(beanId);
+            if (instance == null) {
+                throw new DependencyInjectionException("Bean paresseux introuvable: " + beanId);
+            }
+            target = instance;
+        }
+        return instance;
+    }
+}
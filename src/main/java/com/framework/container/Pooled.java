@@ -0,0 +1,37 @@
+package com.framework.container;
+
+/**
+ * Instance empruntée à un bean de portée "pooled", rendue à la fermeture
+ * À utiliser avec try-with-resources ; l'instance ne doit plus servir après close()
+ */
+public final class Pooled<T> implements AutoCloseable {
+
+    private final BeanContainer container;
+    private final String beanId;
+    private T instance;
+
+    Pooled(BeanContainer container, String beanId, T instance) {
+        this.container = container;
+        this.beanId = beanId;
+        this.instance = instance;
+    }
+
+    public T get() {
+        if (instance == null) {
+            throw new IllegalStateException("Instance déjà rendue au pool: " + beanId);
+        }
+        return instance;
+    }
+
+    /**
+     * Rend l'instance au pool (une seule fois)
+     */
+    @Override
+    public void close() {
+        if (instance != null) {
+            T released = instance;
+            instance = null;
+            container.releaseBean(beanId, released);
+        }
+    }
+}
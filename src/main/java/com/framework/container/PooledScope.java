@@ -0,0 +1,66 @@
+package com.framework.container;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Portée "pooled" : les instances d'un bean sont empruntées à un pool propre à sa définition
+ * (voir BeanPool) plutôt que recréées à chaque demande
+ * getBean emprunte une instance ; elle est rendue par BeanContainer.releaseBean, ou par la
+ * fermeture du Pooled obtenu avec ApplicationContext.borrow. Une instance jamais rendue
+ * est simplement perdue pour le pool
+ */
+public class PooledScope implements BeanScope {
+
+    /**
+     * Capacité par défaut d'un pool
+     */
+    public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Map<String, BeanPool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String beanId, Supplier<Object> factory) {
+        return pool(beanId).borrow(factory);
+    }
+
+    /**
+     * Rend une instance au pool de son bean
+     */
+    public void release(String beanId, Object instance) {
+        pool(beanId).release(instance);
+    }
+
+    /**
+     * Configure le pool d'un bean (remplace le pool existant et ses instances libres)
+     *
+     * @param reset appelé sur chaque instance rendue (ou null)
+     */
+    public void configure(String beanId, int capacity, Consumer<Object> reset) {
+        pools.put(beanId, new BeanPool(capacity, reset));
+    }
+
+    /**
+     * Vide le pool d'un bean (définition remplacée) en conservant sa configuration
+     */
+    public void evict(String beanId) {
+        BeanPool pool = pools.get(beanId);
+        if (pool != null) {
+            pool.clear();
+        }
+    }
+
+    /**
+     * Pool d'un bean (créé avec la capacité par défaut au premier usage), pour ses métriques
+     */
+    public BeanPool getPool(String beanId) {
+        return pool(beanId);
+    }
+
+    private BeanPool pool(String beanId) {
+        BeanPool pool = pools.get(beanId);
+        return pool != null ? pool : pools.computeIfAbsent(beanId, id -> new BeanPool(DEFAULT_CAPACITY, null));
+    }
+}
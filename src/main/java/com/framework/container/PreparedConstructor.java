@@ -0,0 +1,221 @@
+package com.framework.container;
+
+import com.framework.exception.DependencyInjectionException;
+
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Constructeur d'une définition préparé une seule fois : le constructeur est choisi,
+ * les valeurs littérales sont celles converties dans la définition et les refs sont liées à des BeanReference
+ * Une création n'appelle plus que les fournisseurs d'arguments puis le constructeur
+ */
+final class PreparedConstructor {
+
+    private final InjectionPlan.ConstructorAccessor constructor;
+    private final Supplier<?>[] arguments;
+
+    private PreparedConstructor(InjectionPlan.ConstructorAccessor constructor, Supplier<?>[] arguments) {
+        this.constructor = constructor;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Constructeur préparé d'une définition, calculé au premier appel (ou au refresh)
+     */
+    static PreparedConstructor of(BeanDefinition definition, BeanContainer container) {
+        PreparedConstructor prepared = definition.getPreparedConstructor();
+        if (prepared == null) {
+            prepared = prepare(definition, container);
+            definition.setPreparedConstructor(prepared);
+        }
+        return prepared;
+    }
+
+    /**
+     * Vérifie qu'un constructeur compatible existe sans garder le résultat dans la définition
+     * (validation d'un rechargement sur un container de travail)
+     */
+    static void check(BeanDefinition definition, BeanContainer container) {
+        prepare(definition, container);
+    }
+
+    private static PreparedConstructor prepare(BeanDefinition definition, BeanContainer container) {
+        container.resolve(definition); // Classe chargée et littéraux déjà convertis
+        List<String> refs = definition.getConstructorArgRefs();
+        List<Object> values = definition.getTypedConstructorArgs();
+
+        int count = refs.size();
+        Supplier<?>[] arguments = new Supplier<?>[count];
+        Class<?>[] staticTypes = new Class<?>[count];
+        boolean[] nulls = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            String ref = refs.get(i);
+            if (ref != null && !ref.isEmpty()) {
+                arguments[i] = new BeanReference(container, ref);
+                staticTypes[i] = container.getBeanType(ref);
+            } else {
+                Object value = values.get(i);
+                arguments[i] = new Literal(value);
+                staticTypes[i] = value != null ? value.getClass() : null;
+                nulls[i] = value == null;
+            }
+        }
+
+        InjectionPlan plan = InjectionPlan.forClass(definition.getBeanClass());
+        return new PreparedConstructor(select(definition, plan, staticTypes, nulls), arguments);
+    }
+
+    // Score d'un argument : type identique, paramètre primitif recevant son wrapper,
+    // sous-type, puis type inconnu ou valeur null
+    private static final int EXACT = 3;
+    private static final int BOXING = 2;
+    private static final int ASSIGNABLE = 1;
+    private static final int UNKNOWN = 0;
+    private static final int INCOMPATIBLE = -1;
+
+    /**
+     * Constructeur de meilleur score pour les types statiques des arguments (null : type inconnu)
+     * À score égal, le constructeur aux paramètres les plus spécifiques l'emporte ; s'il n'y
+     * en a pas, la définition est ambiguë. Le choix ne dépend pas de l'ordre de déclaration
+     * Sans argument, le constructeur par défaut est retenu. Avec des arguments, aucun repli sur
+     * le constructeur par défaut : l'ancien repli lui passait les arguments et échouait toujours
+     * ("wrong number of arguments"), l'erreur est maintenant explicite
+     */
+    private static InjectionPlan.ConstructorAccessor select(BeanDefinition definition, InjectionPlan plan,
+                                                            Class<?>[] argTypes, boolean[] nulls) {
+        List<InjectionPlan.ConstructorAccessor> best = new ArrayList<>();
+        int bestScore = INCOMPATIBLE;
+        for (InjectionPlan.ConstructorAccessor c : plan.getConstructors()) {
+            int score = score(c, argTypes, nulls);
+            if (score > bestScore) {
+                best.clear();
+                bestScore = score;
+            }
+            if (score == bestScore && score != INCOMPATIBLE) {
+                best.add(c);
+            }
+        }
+        if (best.isEmpty()) {
+            throw new DependencyInjectionException(
+                "Aucun constructeur compatible pour le bean: " + definition.getId()
+            );
+        }
+        InjectionPlan.ConstructorAccessor selected = mostSpecific(best);
+        if (selected == null) {
+            StringBuilder candidates = new StringBuilder();
+            for (InjectionPlan.ConstructorAccessor c : best) {
+                candidates.append("\n - ").append(c.getConstructor().toGenericString());
+            }
+            throw new DependencyInjectionException(
+                "Constructeurs ambigus pour le bean: " + definition.getId() + candidates
+            );
+        }
+        return selected;
+    }
+
+    private static int score(InjectionPlan.ConstructorAccessor c, Class<?>[] argTypes, boolean[] nulls) {
+        if (c.getParameterCount() != argTypes.length) {
+            return INCOMPATIBLE;
+        }
+        int total = 0;
+        for (int i = 0; i < argTypes.length; i++) {
+            Class<?> parameter = c.getParameterType(i);
+            Class<?> argument = argTypes[i];
+            int score;
+            if (argument == null) {
+                score = nulls[i] && parameter.isPrimitive() ? INCOMPATIBLE : UNKNOWN;
+            } else if (parameter == argument) {
+                score = EXACT;
+            } else if (parameter.isPrimitive() && wrap(parameter) == argument) {
+                score = BOXING;
+            } else if (parameter.isAssignableFrom(argument)) {
+                score = ASSIGNABLE;
+            } else {
+                score = INCOMPATIBLE;
+            }
+            if (score == INCOMPATIBLE) {
+                return INCOMPATIBLE;
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    /**
+     * Candidat dont chaque paramètre est assignable à celui des autres candidats, ou null
+     */
+    private static InjectionPlan.ConstructorAccessor mostSpecific(List<InjectionPlan.ConstructorAccessor> candidates) {
+        InjectionPlan.ConstructorAccessor selected = null;
+        for (InjectionPlan.ConstructorAccessor c : candidates) {
+            boolean specific = true;
+            for (InjectionPlan.ConstructorAccessor other : candidates) {
+                if (other != c && !isMoreSpecific(c, other)) {
+                    specific = false;
+                    break;
+                }
+            }
+            if (specific) {
+                if (selected != null) {
+                    return null;
+                }
+                selected = c;
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isMoreSpecific(InjectionPlan.ConstructorAccessor c, InjectionPlan.ConstructorAccessor other) {
+        for (int i = 0; i < c.getParameterCount(); i++) {
+            if (!wrap(other.getParameterType(i)).isAssignableFrom(wrap(c.getParameterType(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    InjectionPlan.ConstructorAccessor getConstructor() {
+        return constructor;
+    }
+
+    Supplier<?>[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Valeurs des arguments pour une création
+     */
+    Object[] resolveArguments() {
+        Object[] args = new Object[arguments.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = arguments[i].get();
+        }
+        return args;
+    }
+
+    Object newInstance() {
+        return constructor.newInstance(resolveArguments());
+    }
+
+    /**
+     * Valeur littérale déjà convertie
+     */
+    static final class Literal implements Supplier<Object> {
+        private final Object value;
+
+        Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object get() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.framework.container;
+
+import com.framework.exception.DependencyInjectionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Instances d'un contexte de portée (un thread, une requête, une unité de travail)
+ * Une instance existante est lue sans verrou ; une création ne verrouille que ce contexte
+ * La fermeture libère toutes les instances d'un coup : les beans AutoCloseable sont fermés,
+ * dans l'ordre inverse de leur création
+ */
+public final class ScopeContext implements AutoCloseable {
+
+    private final Map<String, Object> instances = new ConcurrentHashMap<>();
+    private final List<Object> created = new ArrayList<>(); // Ordre de création (sous le verrou du contexte)
+    private Runnable onClose; // Défini avant la publication du contexte
+    private volatile boolean closed;
+
+    void setOnClose(Runnable onClose) {
+        this.onClose = onClose;
+    }
+
+    /**
+     * Instance du bean dans ce contexte, créée par factory si elle n'existe pas encore
+     */
+    public Object get(String beanId, Supplier<Object> factory) {
+        Object instance = instances.get(beanId);
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (this) {
+            if (closed) {
+                throw new DependencyInjectionException("Contexte de portée terminé (bean: " + beanId + ")");
+            }
+            instance = instances.get(beanId);
+            if (instance == null) {
+                instance = factory.get();
+                instances.put(beanId, instance);
+                created.add(instance);
+            }
+            return instance;
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Termine le contexte et libère ses instances ; les erreurs de fermeture sont remontées ensemble
+     */
+    @Override
+    public void close() {
+        List<Object> released;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            released = new ArrayList<>(created);
+            created.clear();
+            instances.clear();
+        }
+        if (onClose != null) {
+            onClose.run();
+        }
+
+        DependencyInjectionException failure = null;
+        for (int i = released.size() - 1; i >= 0; i--) {
+            Object instance = released.get(i);
+            if (!(instance instanceof AutoCloseable)) {
+                continue;
+            }
+            try {
+                ((AutoCloseable) instance).close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new DependencyInjectionException("Erreur lors de la fermeture des beans de la portée", e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
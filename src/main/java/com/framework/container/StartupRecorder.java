@@ -0,0 +1,95 @@
+package com.framework.container;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Enregistrement des créations de beans pendant un démarrage (voir StartupTimeline)
+ * Chaque création est une frame du thread courant : le temps passé dans les créations
+ * imbriquées et dans l'attente d'un verrou de singleton est compté comme attente de dépendances
+ */
+final class StartupRecorder {
+
+    private final long origin = System.nanoTime();
+    private final ConcurrentLinkedQueue<Frame> frames = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Frame> current = new ThreadLocal<>();
+
+    /**
+     * Début de la création d'un bean sur le thread courant
+     */
+    Frame begin(BeanDefinition definition) {
+        Frame frame = new Frame(definition, current.get());
+        current.set(frame);
+        frames.add(frame);
+        return frame;
+    }
+
+    /**
+     * Fin de l'instanciation, début de l'injection des propriétés
+     */
+    void injectionStarted() {
+        Frame frame = current.get();
+        if (frame != null && frame.instantiated == 0) {
+            frame.instantiated = System.nanoTime();
+        }
+    }
+
+    /**
+     * Temps passé par le thread courant à attendre un bean créé par un autre thread
+     */
+    void waited(long nanos) {
+        Frame frame = current.get();
+        if (frame != null) {
+            frame.dependencyNanos += nanos;
+        }
+    }
+
+    void end(Frame frame) {
+        frame.end = System.nanoTime();
+        if (frame.parent != null) {
+            frame.parent.dependencyNanos += frame.end - frame.start;
+            current.set(frame.parent);
+        } else {
+            current.remove();
+        }
+    }
+
+    /**
+     * Chronologie des créations terminées, dépendances prises dans le graphe (null : aucune)
+     */
+    StartupTimeline finish(DependencyGraph graph) {
+        long total = System.nanoTime() - origin;
+        List<StartupTimeline.BeanTiming> timings = new ArrayList<>();
+        for (Frame frame : frames) {
+            if (frame.end == 0) {
+                continue; // Création en échec
+            }
+            long instantiated = frame.instantiated != 0 ? frame.instantiated : frame.end;
+            timings.add(new StartupTimeline.BeanTiming(frame.beanId, frame.className, frame.thread,
+                    frame.start - origin, instantiated - origin, frame.end - origin, frame.dependencyNanos,
+                    graph != null ? graph.getDependencies(frame.beanId) : new ArrayList<>()));
+        }
+        return new StartupTimeline(total, timings);
+    }
+
+    /**
+     * Création en cours ; seul son thread la modifie
+     */
+    static final class Frame {
+        private final String beanId;
+        private final String className;
+        private final String thread = Thread.currentThread().getName();
+        private final Frame parent;
+        private final long start = System.nanoTime();
+        private long instantiated;
+        private long end;
+        private long dependencyNanos;
+
+        Frame(BeanDefinition definition, Frame parent) {
+            this.beanId = definition.getId();
+            this.className = definition.getClassName();
+            this.parent = parent;
+        }
+    }
+}
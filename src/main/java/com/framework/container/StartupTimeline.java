@@ -0,0 +1,304 @@
+package com.framework.container;
+
+import java.util.*;
+
+/**
+ * Chronologie d'un démarrage (refresh) : début et fin de la création de chaque bean,
+ * temps passé à attendre ses dépendances et temps propre (construction et injection)
+ * Le chemin critique est la chaîne de dépendances dont la somme des temps propres est
+ * la plus grande : même avec un parallélisme illimité, le démarrage ne peut pas être plus court
+ */
+public final class StartupTimeline {
+
+    private final long totalNanos;
+    private final List<BeanTiming> timings;
+    private final Map<String, BeanTiming> byId = new LinkedHashMap<>();
+    private final List<BeanTiming> criticalPath;
+
+    StartupTimeline(long totalNanos, List<BeanTiming> timings) {
+        this.totalNanos = totalNanos;
+        timings.sort(Comparator.comparingLong(BeanTiming::getStartNanos));
+        this.timings = Collections.unmodifiableList(timings);
+        for (BeanTiming timing : timings) {
+            // Un prototype créé plusieurs fois garde sa création la plus longue
+            byId.merge(timing.getBeanId(), timing,
+                    (a, b) -> a.getOwnNanos() >= b.getOwnNanos() ? a : b);
+        }
+        this.criticalPath = Collections.unmodifiableList(computeCriticalPath());
+    }
+
+    /**
+     * Durée totale du démarrage
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Créations de beans, par ordre de début
+     */
+    public List<BeanTiming> getTimings() {
+        return timings;
+    }
+
+    /**
+     * Création d'un bean, ou null s'il n'a pas été créé pendant ce démarrage
+     */
+    public BeanTiming getTiming(String beanId) {
+        return byId.get(beanId);
+    }
+
+    /**
+     * Chemin critique, de la dépendance la plus profonde au bean qui en dépend
+     */
+    public List<BeanTiming> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Somme des temps propres du chemin critique
+     */
+    public long getCriticalPathNanos() {
+        long total = 0;
+        for (BeanTiming timing : criticalPath) {
+            total += timing.getOwnNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Plus long chemin pondéré par les temps propres (programmation dynamique sur le graphe,
+     * les arcs qui referment un cycle sont ignorés)
+     */
+    private List<BeanTiming> computeCriticalPath() {
+        Map<String, Long> cost = new HashMap<>();
+        Map<String, String> next = new HashMap<>();
+        String head = null;
+        for (String beanId : byId.keySet()) {
+            long value = cost(beanId, cost, next, new HashSet<>());
+            if (head == null || value > cost.get(head)) {
+                head = beanId;
+            }
+        }
+        LinkedList<BeanTiming> path = new LinkedList<>();
+        for (String beanId = head; beanId != null; beanId = next.get(beanId)) {
+            path.addFirst(byId.get(beanId));
+        }
+        return path;
+    }
+
+    private long cost(String beanId, Map<String, Long> cost, Map<String, String> next, Set<String> visiting) {
+        Long known = cost.get(beanId);
+        if (known != null) {
+            return known;
+        }
+        visiting.add(beanId);
+        long best = 0;
+        for (String dependency : byId.get(beanId).getDependencies()) {
+            if (byId.containsKey(dependency) && !visiting.contains(dependency)) {
+                long value = cost(dependency, cost, next, visiting);
+                if (value > best) {
+                    best = value;
+                    next.put(beanId, dependency);
+                }
+            }
+        }
+        visiting.remove(beanId);
+        long total = byId.get(beanId).getOwnNanos() + best;
+        cost.put(beanId, total);
+        return total;
+    }
+
+    /**
+     * Export JSON (durées en millisecondes, instants relatifs au début du démarrage)
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"totalMs\":").append(millis(totalNanos));
+        json.append(",\"criticalPathMs\":").append(millis(getCriticalPathNanos()));
+        json.append(",\"criticalPath\":[");
+        for (int i = 0; i < criticalPath.size(); i++) {
+            json.append(i > 0 ? "," : "").append(quote(criticalPath.get(i).getBeanId()));
+        }
+        json.append("],\"beans\":[");
+        for (int i = 0; i < timings.size(); i++) {
+            BeanTiming timing = timings.get(i);
+            json.append(i > 0 ? "," : "")
+                    .append("{\"id\":").append(quote(timing.getBeanId()))
+                    .append(",\"class\":").append(quote(timing.getClassName()))
+                    .append(",\"thread\":").append(quote(timing.getThread()))
+                    .append(",\"startMs\":").append(millis(timing.getStartNanos()))
+                    .append(",\"instantiatedMs\":").append(millis(timing.getInstantiatedNanos()))
+                    .append(",\"endMs\":").append(millis(timing.getEndNanos()))
+                    .append(",\"durationMs\":").append(millis(timing.getDurationNanos()))
+                    .append(",\"dependencyMs\":").append(millis(timing.getDependencyNanos()))
+                    .append(",\"ownMs\":").append(millis(timing.getOwnNanos()))
+                    .append(",\"dependencies\":[");
+            List<String> dependencies = timing.getDependencies();
+            for (int j = 0; j < dependencies.size(); j++) {
+                json.append(j > 0 ? "," : "").append(quote(dependencies.get(j)));
+            }
+            json.append("]}");
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Arbre lisible : chaque bean suivi de ses dépendances créées pendant le démarrage,
+     * les beans du chemin critique marqués d'une étoile
+     */
+    public String toTree() {
+        Set<String> dependedOn = new HashSet<>();
+        for (BeanTiming timing : byId.values()) {
+            dependedOn.addAll(timing.getDependencies());
+        }
+        Set<String> critical = new HashSet<>();
+        for (BeanTiming timing : criticalPath) {
+            critical.add(timing.getBeanId());
+        }
+        StringBuilder tree = new StringBuilder();
+        tree.append(String.format(Locale.ROOT, "Démarrage : %.3f ms (chemin critique : %.3f ms)%n",
+                totalNanos / 1e6, getCriticalPathNanos() / 1e6));
+        Set<String> printed = new HashSet<>();
+        for (String beanId : byId.keySet()) {
+            if (!dependedOn.contains(beanId)) {
+                appendTree(tree, beanId, 1, critical, printed);
+            }
+        }
+        // Beans qui ne sont atteints depuis aucune racine (cycle)
+        for (String beanId : byId.keySet()) {
+            if (!printed.contains(beanId)) {
+                appendTree(tree, beanId, 1, critical, printed);
+            }
+        }
+        return tree.toString();
+    }
+
+    private void appendTree(StringBuilder tree, String beanId, int depth, Set<String> critical, Set<String> printed) {
+        BeanTiming timing = byId.get(beanId);
+        for (int i = 0; i < depth; i++) {
+            tree.append("  ");
+        }
+        tree.append(critical.contains(beanId) ? "* " : "- ").append(beanId);
+        if (!printed.add(beanId)) {
+            tree.append(" (voir plus haut)").append(System.lineSeparator());
+            return;
+        }
+        tree.append(String.format(Locale.ROOT, " %.3f ms (propre %.3f ms, dépendances %.3f ms) [%s]%n",
+                timing.getDurationNanos() / 1e6, timing.getOwnNanos() / 1e6,
+                timing.getDependencyNanos() / 1e6, timing.getThread()));
+        for (String dependency : timing.getDependencies()) {
+            if (byId.containsKey(dependency)) {
+                appendTree(tree, dependency, depth + 1, critical, printed);
+            }
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    @Override
+    public String toString() {
+        return toTree();
+    }
+
+    /**
+     * Création d'un bean ; les instants sont relatifs au début du démarrage
+     */
+    public static final class BeanTiming {
+        private final String beanId;
+        private final String className;
+        private final String thread;
+        private final long startNanos;
+        private final long instantiatedNanos;
+        private final long endNanos;
+        private final long dependencyNanos;
+        private final List<String> dependencies;
+
+        BeanTiming(String beanId, String className, String thread, long startNanos, long instantiatedNanos,
+                   long endNanos, long dependencyNanos, List<String> dependencies) {
+            this.beanId = beanId;
+            this.className = className;
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.instantiatedNanos = instantiatedNanos;
+            this.endNanos = endNanos;
+            this.dependencyNanos = dependencyNanos;
+            this.dependencies = Collections.unmodifiableList(dependencies);
+        }
+
+        public String getBeanId() {
+            return beanId;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Thread qui a créé le bean
+         */
+        public String getThread() {
+            return thread;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * Fin de l'instanciation (début de l'injection des propriétés)
+         */
+        public long getInstantiatedNanos() {
+            return instantiatedNanos;
+        }
+
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        public long getDurationNanos() {
+            return endNanos - startNanos;
+        }
+
+        /**
+         * Temps passé à créer ou attendre les dépendances
+         */
+        public long getDependencyNanos() {
+            return dependencyNanos;
+        }
+
+        /**
+         * Temps propre : construction et injection, hors dépendances
+         */
+        public long getOwnNanos() {
+            return Math.max(0, getDurationNanos() - dependencyNanos);
+        }
+
+        /**
+         * Dépendances directes (graphe des définitions)
+         */
+        public List<String> getDependencies() {
+            return dependencies;
+        }
+    }
+}
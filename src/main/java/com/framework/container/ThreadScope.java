@@ -0,0 +1,33 @@
+package com.framework.container;
+
+import java.util.function.Supplier;
+
+/**
+ * Portée "thread" : une instance par thread, sans aucun verrou partagé
+ * Le contexte d'un thread est créé au premier usage et terminé par end()
+ */
+public class ThreadScope implements BeanScope {
+
+    private final ThreadLocal<ScopeContext> contexts = new ThreadLocal<>();
+
+    @Override
+    public Object get(String beanId, Supplier<Object> factory) {
+        ScopeContext context = contexts.get();
+        if (context == null) {
+            context = new ScopeContext();
+            contexts.set(context);
+        }
+        return context.get(beanId, factory);
+    }
+
+    /**
+     * Termine la portée pour le thread courant et libère ses instances
+     */
+    public void end() {
+        ScopeContext context = contexts.get();
+        if (context != null) {
+            contexts.remove();
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.framework.container;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index des beans par type
+ * Chaque classe enregistrée est indexée sous elle-même, ses superclasses et ses interfaces :
+ * une recherche par type est une simple lecture, sans instancier aucun bean
+ *
+ * Les lectures sont sans verrou : les listes de candidats sont immuables et remplacées
+ * à chaque écriture (les écritures sont synchronisées)
+ */
+final class TypeIndex {
+
+    private final Map<Class<?>, List<String>> candidates = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> indexedTypes = new HashMap<>();
+    private final Set<Class<?>> misses = ConcurrentHashMap.newKeySet(); // Types déjà cherchés sans résultat
+
+    /**
+     * Indexe un bean sous tous les types qu'il implémente (remplace une indexation précédente)
+     */
+    synchronized void add(String beanId, Class<?> type) {
+        remove(beanId);
+        indexedTypes.put(beanId, type);
+        for (Class<?> supertype : supertypes(type)) {
+            List<String> ids = new ArrayList<>(candidates.getOrDefault(supertype, Collections.emptyList()));
+            ids.add(beanId);
+            candidates.put(supertype, Collections.unmodifiableList(ids));
+        }
+        misses.clear();
+    }
+
+    /**
+     * Retire un bean de l'index
+     */
+    synchronized void remove(String beanId) {
+        Class<?> previous = indexedTypes.remove(beanId);
+        if (previous == null) {
+            return;
+        }
+        for (Class<?> supertype : supertypes(previous)) {
+            List<String> ids = candidates.get(supertype);
+            if (ids != null) {
+                List<String> remaining = new ArrayList<>(ids);
+                remaining.remove(beanId);
+                if (remaining.isEmpty()) {
+                    candidates.remove(supertype);
+                } else {
+                    candidates.put(supertype, Collections.unmodifiableList(remaining));
+                }
+            }
+        }
+    }
+
+    /**
+     * IDs des beans compatibles avec un type, dans l'ordre d'enregistrement
+     */
+    List<String> find(Class<?> type) {
+        List<String> ids = candidates.get(type);
+        return ids != null ? ids : Collections.emptyList();
+    }
+
+    boolean isKnownMiss(Class<?> type) {
+        return misses.contains(type);
+    }
+
+    /**
+     * Mémorise l'absence de candidat (sauf si un bean compatible vient d'être indexé)
+     */
+    synchronized void recordMiss(Class<?> type) {
+        if (!candidates.containsKey(type)) {
+            misses.add(type);
+        }
+    }
+
+    synchronized void clear() {
+        candidates.clear();
+        indexedTypes.clear();
+        misses.clear();
+    }
+
+    /**
+     * La classe, ses superclasses et toutes ses interfaces (sans doublon)
+     */
+    private static Set<Class<?>> supertypes(Class<?> type) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            if (!result.add(current)) {
+                continue;
+            }
+            if (current.getSuperclass() != null) {
+                pending.add(current.getSuperclass());
+            }
+            Collections.addAll(pending, current.getInterfaces());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,14 @@
+package com.framework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Création d'une instance par le container, dépendances et injection comprises
+ */
+@Name("com.framework.BeanCreation")
+@Label("Bean Creation")
+@Description("Création d'une instance de bean")
+public class BeanCreationEvent extends BeanEvent {
+}
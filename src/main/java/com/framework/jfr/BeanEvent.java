@@ -0,0 +1,38 @@
+package com.framework.jfr;
+
+import com.framework.container.BeanDefinition;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Événement JFR portant sur un bean : ID, classe, portée et mode d'injection
+ * La durée est celle de l'événement (begin / commit)
+ */
+@Category({ "Framework", "Beans" })
+public abstract class BeanEvent extends Event {
+
+    @Label("Bean ID")
+    public String beanId;
+
+    @Label("Bean Class")
+    public Class<?> beanClass;
+
+    @Label("Scope")
+    public String scope;
+
+    @Label("Injection Mode")
+    public String injectionMode;
+
+    /**
+     * Renseigne les champs à partir d'une définition (null : bean sans définition)
+     */
+    public void describe(String beanId, BeanDefinition definition) {
+        this.beanId = beanId;
+        if (definition != null) {
+            this.beanClass = definition.getBeanClass();
+            this.scope = definition.getScope();
+            this.injectionMode = definition.getInjectionMode() != null ? definition.getInjectionMode().name() : null;
+        }
+    }
+}
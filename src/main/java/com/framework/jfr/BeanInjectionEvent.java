@@ -0,0 +1,15 @@
+package com.framework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Injection des propriétés d'une instance selon sa définition (BeanInjector.injectByDefinition),
+ * ou création par une fabrique compilée ou générée qui fusionne construction et injection
+ */
+@Name("com.framework.BeanInjection")
+@Label("Bean Injection")
+@Description("Injection des propriétés d'un bean")
+public class BeanInjectionEvent extends BeanEvent {
+}
@@ -0,0 +1,23 @@
+package com.framework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Appel de BeanContainer.getBean(String), création éventuelle comprise
+ * Très fréquent : désactivé par défaut (à activer dans la configuration de l'enregistrement)
+ * et sans pile d'appels
+ */
+@Name("com.framework.BeanLookup")
+@Label("Bean Lookup")
+@Description("Obtention d'un bean par son ID")
+@StackTrace(false)
+@Enabled(false)
+public class BeanLookupEvent extends BeanEvent {
+
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,23 @@
+package com.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Parsing d'un flux de configuration XML (un événement par fichier, imports à part)
+ */
+@Name("com.framework.XmlParse")
+@Label("XML Parse")
+@Description("Parsing d'une configuration XML")
+@Category({ "Framework", "Configuration" })
+public class XmlParseEvent extends Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Bean Count")
+    public int beanCount;
+}
@@ -0,0 +1,469 @@
+package com.framework.processor;
+
+import com.framework.annotations.Autowired;
+import com.framework.annotations.Component;
+import com.framework.annotations.Lazy;
+import com.framework.annotations.Scope;
+import com.framework.annotations.Qualifier;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Processeur d'annotations pour @Component, @Autowired et @Qualifier
+ * Génère à la compilation un ComponentRegistry contenant les définitions des composants
+ * et leurs fabriques (new + injection directe), chargé par ApplicationContext.loadComponentRegistries(),
+ * ainsi que l'index META-INF/com.framework.components lu par scanComponents
+ *
+ * Un composant dont un point d'injection n'est pas accessible depuis le code généré
+ * (field private, setter non public, ...) est enregistré sans fabrique : il garde
+ * l'injection par réflexion
+ *
+ * Le registre s'appelle par défaut GeneratedComponentRegistry, dans le package commun des
+ * composants : deux modules de packages distincts ne se masquent pas sous ServiceLoader
+ * Option : -Aframework.registry=nom.complet.DuRegistre (obligatoire si deux modules partagent
+ * le même package commun)
+ *
+ * Processeur agrégeant : les composants de tous les rounds sont réunis (un registre par round
+ * qui en découvre), et une compilation incrémentale qui ne recompile que certains fichiers
+ * reprend les composants de l'index précédent toujours présents. Un composant supprimé ne
+ * disparaît de l'index qu'après une recompilation complète (mvn clean)
+ */
+@SupportedAnnotationTypes("com.framework.annotations.Component")
+@SupportedOptions(ComponentProcessor.REGISTRY_OPTION)
+public class ComponentProcessor extends AbstractProcessor {
+
+    public static final String REGISTRY_OPTION = "framework.registry";
+    public static final String DEFAULT_REGISTRY = "com.framework.generated.GeneratedComponentRegistry";
+    static final String REGISTRY_SIMPLE_NAME = "GeneratedComponentRegistry";
+
+    private static final String REGISTRY_SERVICE = "META-INF/services/com.framework.container.ComponentRegistry";
+    private static final String COMPONENT_INDEX = "META-INF/com.framework.components";
+
+    private final Map<String, ComponentModel> components = new TreeMap<>();
+    private final List<String> registries = new ArrayList<>();
+    private boolean mergedPrevious;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeResources();
+            return false;
+        }
+
+        List<ComponentModel> found = new ArrayList<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Component.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                found.add(analyze((TypeElement) element));
+            }
+        }
+        if (!mergedPrevious && !found.isEmpty()) {
+            mergedPrevious = true;
+            found.addAll(previousComponents(found));
+        }
+        found.removeIf(component -> components.containsKey(component.binaryName));
+        if (found.isEmpty()) {
+            return false;
+        }
+        found.sort(Comparator.comparing(c -> c.binaryName));
+        for (ComponentModel component : found) {
+            components.put(component.binaryName, component);
+        }
+
+        // Un fichier source ne peut être réécrit : un registre de plus par round
+        String registryName = registries.isEmpty() ? registryName(found) : registries.get(0) + (registries.size() + 1);
+        try {
+            writeRegistry(registryName, found);
+            registries.add(registryName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Impossible de générer le registre de composants: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Nom du registre : option -Aframework.registry, sinon GeneratedComponentRegistry
+     * dans le package commun des composants (DEFAULT_REGISTRY s'il n'y en a pas)
+     */
+    private String registryName(List<ComponentModel> found) {
+        String option = processingEnv.getOptions().get(REGISTRY_OPTION);
+        if (option != null && !option.isEmpty()) {
+            return option;
+        }
+        String common = null;
+        for (ComponentModel component : found) {
+            String packageName = component.packageName;
+            common = common == null ? packageName : commonPackage(common, packageName);
+        }
+        return common == null || common.isEmpty() ? DEFAULT_REGISTRY : common + "." + REGISTRY_SIMPLE_NAME;
+    }
+
+    private static String commonPackage(String a, String b) {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        StringBuilder common = new StringBuilder();
+        for (int i = 0; i < Math.min(left.length, right.length) && left[i].equals(right[i]); i++) {
+            if (common.length() > 0) {
+                common.append('.');
+            }
+            common.append(left[i]);
+        }
+        return common.toString();
+    }
+
+    /**
+     * Composants de l'index d'une compilation précédente qui n'ont pas été recompilés :
+     * toujours présents (classe compilée) et annotés @Component
+     */
+    private List<ComponentModel> previousComponents(List<ComponentModel> found) {
+        Set<String> current = new HashSet<>();
+        for (ComponentModel component : found) {
+            current.add(component.binaryName);
+        }
+        List<ComponentModel> previous = new ArrayList<>();
+        CharSequence index;
+        try {
+            index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", COMPONENT_INDEX)
+                    .getCharContent(true);
+        } catch (IOException | IllegalArgumentException e) {
+            return previous; // Première compilation
+        }
+        for (String line : index.toString().split("\n")) {
+            String[] columns = line.split("\t");
+            if (columns.length < 2 || !"component".equals(columns[0]) || current.contains(columns[1])) {
+                continue;
+            }
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(columns[1].replace('$', '.'));
+            if (type != null && type.getKind() == ElementKind.CLASS && type.getAnnotation(Component.class) != null) {
+                previous.add(analyze(type));
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Dernier round : déclare tous les registres pour ServiceLoader et écrit l'index complet
+     */
+    private void writeResources() {
+        if (registries.isEmpty()) {
+            return;
+        }
+        try {
+            writeService(registries);
+            writeIndex(new ArrayList<>(components.values()));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Impossible de générer l'index des composants: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Analyse un composant : ID, constructeur et points d'injection
+     */
+    private ComponentModel analyze(TypeElement type) {
+        ComponentModel model = new ComponentModel();
+        model.canonicalName = type.getQualifiedName().toString();
+        model.binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        model.packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+
+        String id = type.getAnnotation(Component.class).value();
+        model.beanId = id == null || id.isEmpty() ? type.getSimpleName().toString() : id;
+        model.lazy = isLazy(type);
+        Scope scope = type.getAnnotation(Scope.class);
+        model.scope = scope != null ? scope.value() : "singleton";
+
+        boolean direct = isAccessible(type) && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && hasPublicDefaultConstructor(type);
+
+        // Même ordre que l'injection par réflexion : fields puis setters
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Autowired autowired = field.getAnnotation(Autowired.class);
+            if (autowired == null) {
+                continue;
+            }
+            Set<Modifier> modifiers = field.getModifiers();
+            direct &= modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.FINAL)
+                    && !modifiers.contains(Modifier.STATIC);
+            direct &= addPoint(model, field.getSimpleName().toString(), field.asType(),
+                    field.getAnnotation(Qualifier.class), autowired.required(), isLazy(field), true);
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Autowired autowired = method.getAnnotation(Autowired.class);
+            if (autowired == null || !isSetter(method)) {
+                continue;
+            }
+            direct &= method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC);
+            VariableElement param = method.getParameters().get(0);
+            direct &= addPoint(model, method.getSimpleName().toString(), param.asType(),
+                    param.getAnnotation(Qualifier.class), autowired.required(), isLazy(method) || isLazy(param), false);
+        }
+
+        model.direct = direct;
+        return model;
+    }
+
+    /**
+     * Ajoute un point d'injection ; retourne false si son type n'est pas utilisable dans le code généré
+     */
+    private boolean addPoint(ComponentModel model, String name, TypeMirror type, Qualifier qualifier,
+                             boolean required, boolean lazy, boolean field) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() != TypeKind.DECLARED) {
+            model.indexable = false; // Type primitif ou tableau : l'index ne décrit pas les points
+            return false;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) erased).asElement();
+
+        InjectionPointModel point = new InjectionPointModel();
+        point.name = name;
+        point.field = field;
+        point.required = required;
+        point.lazy = lazy;
+        point.typeName = typeElement.getQualifiedName().toString();
+        point.typeBinaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        point.beanId = qualifier != null ? qualifier.value() : typeElement.getSimpleName().toString();
+        model.points.add(point);
+        return isAccessible(typeElement);
+    }
+
+    private static boolean isLazy(Element element) {
+        Lazy lazy = element.getAnnotation(Lazy.class);
+        return lazy != null && lazy.value();
+    }
+
+    private boolean isSetter(ExecutableElement method) {
+        return method.getSimpleName().toString().startsWith("set") &&
+               method.getParameters().size() == 1 &&
+               method.getReturnType().getKind() == TypeKind.VOID;
+    }
+
+    private boolean hasPublicDefaultConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return constructor.getModifiers().contains(Modifier.PUBLIC);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Un type est accessible s'il est public, ainsi que tous ses types englobants (classes statiques)
+     */
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            Element enclosing = current.getEnclosingElement();
+            if (enclosing instanceof TypeElement && !modifiers.contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return true;
+    }
+
+    /**
+     * Écrit la source du registre
+     */
+    private void writeRegistry(String registryName, List<ComponentModel> components) throws IOException {
+        int dot = registryName.lastIndexOf('.');
+        String packageName = dot > 0 ? registryName.substring(0, dot) : null;
+        String simpleName = registryName.substring(dot + 1);
+
+        StringBuilder src = new StringBuilder();
+        if (packageName != null) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("import com.framework.container.BeanContainer;\n");
+        src.append("import com.framework.container.BeanDefinition;\n");
+        src.append("import com.framework.container.ComponentRegistry;\n");
+        src.append("import com.framework.exception.DependencyInjectionException;\n\n");
+        src.append("/**\n * Registre de composants généré par ComponentProcessor - ne pas modifier\n */\n");
+        src.append("public final class ").append(simpleName).append(" implements ComponentRegistry {\n\n");
+        src.append("    @Override\n");
+        src.append("    public void registerComponents(BeanContainer container) {\n");
+        for (ComponentModel component : components) {
+            src.append("        container.registerDefinition(").append(methodName(component)).append("());\n");
+        }
+        src.append("    }\n");
+
+        for (ComponentModel component : components) {
+            src.append("\n    private static BeanDefinition ").append(methodName(component)).append("() {\n");
+            src.append("        BeanDefinition definition = new BeanDefinition(")
+               .append(quote(component.beanId)).append(", ").append(quote(component.binaryName)).append(");\n");
+            src.append("        definition.setInjectionMode(null);\n");
+            if (component.lazy) {
+                src.append("        definition.setLazyInit(true);\n");
+            }
+            if (!"singleton".equals(component.scope)) {
+                src.append("        definition.setScope(").append(quote(component.scope)).append(");\n");
+            }
+            if (component.direct) {
+                src.append("        definition.setBeanClass(").append(component.canonicalName).append(".class);\n");
+                writeFactory(src, component);
+            } else {
+                src.append("        // Point d'injection non accessible : injection par réflexion\n");
+                src.append("        try {\n");
+                src.append("            definition.setBeanClass(Class.forName(").append(quote(component.binaryName)).append("));\n");
+                src.append("        } catch (ClassNotFoundException e) {\n");
+                src.append("            throw new DependencyInjectionException(e);\n");
+                src.append("        }\n");
+            }
+            src.append("        return definition;\n");
+            src.append("    }\n");
+        }
+
+        src.append("\n    private static Object require(Object dependency, String message) {\n");
+        src.append("        if (dependency == null) {\n");
+        src.append("            throw new DependencyInjectionException(message);\n");
+        src.append("        }\n");
+        src.append("        return dependency;\n");
+        src.append("    }\n");
+        src.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(registryName).openWriter()) {
+            writer.write(src.toString());
+        }
+    }
+
+    /**
+     * Fabrique : new Composant() puis chaque injection en appel direct
+     */
+    private void writeFactory(StringBuilder src, ComponentModel component) {
+        src.append("        definition.setFactory(c -> {\n");
+        src.append("            ").append(component.canonicalName).append(" bean = new ")
+           .append(component.canonicalName).append("();\n");
+        int index = 0;
+        for (InjectionPointModel point : component.points) {
+            String variable = "dependency" + index++;
+            String lookup = "c.resolveDependency(" + quote(point.beanId) + ", " + point.typeName + ".class, "
+                    + point.lazy + ")";
+            if (point.required) {
+                String message = "Impossible d'injecter la dépendance pour le " + (point.field ? "field: " : "setter: ")
+                        + point.name + " de la classe: " + component.binaryName;
+                lookup = "require(" + lookup + ", " + quote(message) + ")";
+            }
+            src.append("            Object ").append(variable).append(" = ").append(lookup).append(";\n");
+            src.append("            if (").append(variable).append(" != null) {\n");
+            String value = "(" + point.typeName + ") " + variable;
+            if (point.field) {
+                src.append("                bean.").append(point.name).append(" = ").append(value).append(";\n");
+            } else {
+                src.append("                bean.").append(point.name).append("(").append(value).append(");\n");
+            }
+            src.append("            }\n");
+        }
+        src.append("            return bean;\n");
+        src.append("        });\n");
+    }
+
+    /**
+     * Déclare les registres comme services pour ServiceLoader
+     */
+    private void writeService(List<String> registryNames) throws IOException {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_SERVICE);
+        try (Writer writer = file.openWriter()) {
+            for (String registryName : registryNames) {
+                writer.write(registryName);
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Écrit l'index des composants (voir ComponentIndex pour le format)
+     */
+    private void writeIndex(List<ComponentModel> components) throws IOException {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", COMPONENT_INDEX);
+        try (Writer writer = file.openWriter()) {
+            writer.write("# Index des composants généré par ComponentProcessor - ne pas modifier\n");
+            for (ComponentModel component : components) {
+                writer.write(String.join("\t", "component", component.binaryName, component.beanId,
+                        String.valueOf(component.lazy), component.scope));
+                if (!component.indexable) {
+                    writer.write('\n');
+                    continue;
+                }
+                writer.write("\t" + component.points.size() + "\n");
+                for (InjectionPointModel point : component.points) {
+                    writer.write(String.join("\t", "point", point.field ? "field" : "setter", point.name,
+                            point.typeBinaryName, point.beanId, String.valueOf(point.required),
+                            String.valueOf(point.lazy)));
+                    writer.write('\n');
+                }
+            }
+        }
+    }
+
+    private static String methodName(ComponentModel component) {
+        StringBuilder name = new StringBuilder("define_");
+        for (char c : component.binaryName.toCharArray()) {
+            name.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return name.toString();
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"': quoted.append("\\\""); break;
+                case '\\': quoted.append("\\\\"); break;
+                case '\n': quoted.append("\\n"); break;
+                case '\r': quoted.append("\\r"); break;
+                case '\t': quoted.append("\\t"); break;
+                default: quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Modèle d'un composant analysé
+     */
+    private static class ComponentModel {
+        String canonicalName;
+        String binaryName;
+        String packageName;
+        String beanId;
+        boolean lazy;
+        String scope;
+        boolean direct;
+        boolean indexable = true; // Tous les points @Autowired sont dans points
+        List<InjectionPointModel> points = new ArrayList<>();
+    }
+
+    /**
+     * Modèle d'un point @Autowired
+     */
+    private static class InjectionPointModel {
+        String name;
+        String typeName;
+        String typeBinaryName;
+        String beanId;
+        boolean required;
+        boolean lazy;
+        boolean field;
+    }
+}
@@ -0,0 +1,261 @@
+package com.framework.utils;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Supplier;
+
+/**
+ * Couche d'accès aux membres basée sur les MethodHandle
+ * Un field, un setter ou un constructeur est lié une seule fois, au lieu de Field.set / Method.invoke
+ * Les handles bruts servent à composer des chaînes (voir BeanFactoryCompiler). Les accès liés
+ * (Writer, Instantiator) s'appellent seuls : un handle rangé dans un objet n'est pas une
+ * constante pour le JIT et n'est pas inliné, donc setters et constructeurs sans argument
+ * appelés souvent passent à une classe générée par LambdaMetafactory (appel direct, inlinable)
+ */
+public final class Accessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Appels par handle avant de générer l'accès direct : comme l'inflation de la réflexion,
+     * un membre écrit une seule fois (singleton) ne coûte pas la génération d'une classe
+     */
+    private static final int INFLATION_THRESHOLD = 16;
+
+    /**
+     * Forme commune des écrivains : (Object cible, Object valeur) -> void
+     */
+    public static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Forme commune des instanciateurs : (Object[] args) -> Object
+     */
+    public static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private Accessors() {
+    }
+
+    /**
+     * Écriture liée d'un field ou d'un setter : (cible, valeur)
+     * Les exceptions du setter sont propagées telles quelles
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write(Object target, Object value) throws Exception;
+    }
+
+    /**
+     * Constructeur lié : reçoit ses arguments sous forme de tableau
+     */
+    @FunctionalInterface
+    public interface Instantiator {
+        Object newInstance(Object[] args) throws Exception;
+    }
+
+    /**
+     * Lie l'écriture d'un field (même s'il est private)
+     */
+    public static MethodHandle writer(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        return LOOKUP.unreflectSetter(field).asType(WRITER_TYPE);
+    }
+
+    /**
+     * Lie l'appel d'un setter à un seul paramètre (même s'il est private)
+     */
+    public static MethodHandle writer(Method setter) throws IllegalAccessException {
+        setter.setAccessible(true);
+        return LOOKUP.unreflect(setter).asType(WRITER_TYPE);
+    }
+
+    /**
+     * Lie un constructeur ; le handle reçoit un paramètre Object par argument
+     */
+    public static MethodHandle constructor(Constructor<?> constructor) throws IllegalAccessException {
+        constructor.setAccessible(true);
+        return LOOKUP.unreflectConstructor(constructor)
+                     .asType(MethodType.genericMethodType(constructor.getParameterCount()));
+    }
+
+    /**
+     * Lie un constructeur ; le handle reçoit les arguments sous forme de tableau
+     */
+    public static MethodHandle instantiator(Constructor<?> constructor) throws IllegalAccessException {
+        constructor.setAccessible(true);
+        MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+        return handle.asType(handle.type().changeReturnType(Object.class))
+                     .asSpreader(Object[].class, constructor.getParameterCount())
+                     .asType(INSTANTIATOR_TYPE);
+    }
+
+    /**
+     * Lie l'écriture d'un field ; LambdaMetafactory ne sait pas cibler un field, l'écriture
+     * reste sur le handle
+     */
+    public static Writer bind(Field field) throws IllegalAccessException {
+        return new HandleWriter(writer(field));
+    }
+
+    /**
+     * Lie un setter à un seul paramètre : par handle, puis en appel direct une fois le seuil atteint
+     */
+    public static Writer bind(Method setter) throws IllegalAccessException {
+        MethodHandle handle = writer(setter);
+        if (Modifier.isStatic(setter.getModifiers())) {
+            return new HandleWriter(handle);
+        }
+        return new InflatingWriter(setter, handle);
+    }
+
+    /**
+     * Lie un constructeur ; sans argument, il passe en appel direct une fois le seuil atteint
+     */
+    public static Instantiator bind(Constructor<?> constructor) throws IllegalAccessException {
+        MethodHandle handle = instantiator(constructor);
+        if (constructor.getParameterCount() > 0 || Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            return args -> newInstance(handle, args);
+        }
+        return new InflatingInstantiator(constructor, handle);
+    }
+
+    private static void write(MethodHandle handle, Object target, Object value) throws Exception {
+        try {
+            handle.invokeExact(target, value);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static Object newInstance(MethodHandle handle, Object[] args) throws Exception {
+        try {
+            return handle.invokeExact(args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Classe générée par LambdaMetafactory dans la classe du membre (accès privé compris),
+     * ou null si la génération est impossible (module fermé, interface non visible du chargeur...)
+     */
+    private static Object spin(Class<?> owner, Class<?> functionalInterface, String name, MethodType samType,
+                               MethodHandle implementation, MethodType instantiatedType) {
+        if (implementation == null) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, LOOKUP);
+            return LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(functionalInterface),
+                    samType, implementation, instantiatedType).getTarget().invoke();
+        } catch (Throwable e) {
+            return null; // Le handle reste utilisé
+        }
+    }
+
+    /**
+     * Écriture par handle seul
+     */
+    private static final class HandleWriter implements Writer {
+        private final MethodHandle handle;
+
+        HandleWriter(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public void write(Object target, Object value) throws Exception {
+            Accessors.write(handle, target, value);
+        }
+    }
+
+    /**
+     * Setter appelé par handle jusqu'au seuil, puis par la classe générée ; si la génération
+     * échoue, le handle reste utilisé (compteur sans verrou : une course ne fait que générer deux fois)
+     */
+    private static final class InflatingWriter implements Writer {
+        private final Method setter;
+        private final MethodHandle handle;
+        private Writer direct;
+        private int calls;
+
+        InflatingWriter(Method setter, MethodHandle handle) {
+            this.setter = setter;
+            this.handle = handle;
+        }
+
+        @Override
+        public void write(Object target, Object value) throws Exception {
+            Writer bound = direct;
+            if (bound != null) {
+                bound.write(target, value);
+                return;
+            }
+            if (calls < INFLATION_THRESHOLD && ++calls == INFLATION_THRESHOLD) {
+                Class<?> owner = setter.getDeclaringClass();
+                Class<?> parameter = MethodType.methodType(setter.getParameterTypes()[0]).wrap().returnType();
+                direct = (Writer) spin(owner, Writer.class, "write", WRITER_TYPE, handle(setter),
+                        MethodType.methodType(void.class, owner, parameter));
+            }
+            Accessors.write(handle, target, value);
+        }
+    }
+
+    /**
+     * Constructeur sans argument appelé par handle jusqu'au seuil, puis par la classe générée
+     */
+    private static final class InflatingInstantiator implements Instantiator {
+        private final Constructor<?> constructor;
+        private final MethodHandle handle;
+        private Supplier<?> direct;
+        private int calls;
+
+        InflatingInstantiator(Constructor<?> constructor, MethodHandle handle) {
+            this.constructor = constructor;
+            this.handle = handle;
+        }
+
+        @Override
+        public Object newInstance(Object[] args) throws Exception {
+            Supplier<?> bound = direct;
+            if (bound != null) {
+                return bound.get();
+            }
+            if (calls < INFLATION_THRESHOLD && ++calls == INFLATION_THRESHOLD) {
+                Class<?> owner = constructor.getDeclaringClass();
+                direct = (Supplier<?>) spin(owner, Supplier.class, "get", MethodType.methodType(Object.class),
+                        handle(constructor), MethodType.methodType(owner));
+            }
+            return Accessors.newInstance(handle, args);
+        }
+    }
+
+    /**
+     * Handle direct (non adapté) du membre, tel que l'attend LambdaMetafactory ; null s'il est inaccessible
+     */
+    private static MethodHandle handle(Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle handle(Constructor<?> constructor) {
+        try {
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
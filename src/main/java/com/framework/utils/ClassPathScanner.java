@@ -0,0 +1,315 @@
+package com.framework.utils;
+
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Scanner de classpath au niveau du bytecode
+ * Les fichiers .class d'un package (répertoires et jars) sont lus en parallèle et leur
+ * constant pool / leurs annotations analysés directement : aucune classe n'est chargée
+ * ni initialisée par le scan
+ */
+public class ClassPathScanner {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /**
+     * Noms binaires des classes du package (et sous-packages) portant l'annotation, triés
+     * Les racines sont trouvées via ClassLoader.getResources : un jar doit contenir
+     * les entrées de répertoires du package (comme le produisent jar et Maven)
+     */
+    public static List<String> findAnnotatedClasses(ClassLoader classLoader, String packageName,
+                                                    Class<?> annotationType) throws IOException {
+        return findAnnotatedClasses(classLoader, packageName, annotationType, root -> true);
+    }
+
+    /**
+     * Comme findAnnotatedClasses, limité aux racines du classpath acceptées par le filtre
+     * (URL de la racine, voir rootOf)
+     */
+    public static List<String> findAnnotatedClasses(ClassLoader classLoader, String packageName,
+                                                    Class<?> annotationType, Predicate<String> rootFilter)
+            throws IOException {
+        String descriptor = "L" + annotationType.getName().replace('.', '/') + ";";
+        String path = packageName.replace('.', '/');
+
+        List<ClassSource> sources = new ArrayList<>();
+        List<JarFile> jars = new ArrayList<>();
+        try {
+            Enumeration<URL> roots = classLoader.getResources(path);
+            while (roots.hasMoreElements()) {
+                URL url = roots.nextElement();
+                if (rootFilter.test(rootOf(url, path))) {
+                    collect(url, path, sources, jars);
+                }
+            }
+
+            try (Stream<ClassSource> stream = sources.parallelStream()) {
+                return stream.filter(source -> source.isAnnotated(descriptor))
+                        .map(source -> source.className)
+                        .distinct()
+                        .sorted()
+                        .collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } finally {
+            for (JarFile jar : jars) {
+                jar.close();
+            }
+        }
+    }
+
+    /**
+     * Racine du classpath (répertoire ou jar) d'une ressource trouvée sous le chemin donné :
+     * "jar:file:/a.jar!/com/x" et le chemin "com/x" donnent "jar:file:/a.jar!/"
+     */
+    public static String rootOf(URL resource, String path) {
+        String url = resource.toString();
+        if (path.isEmpty()) {
+            return url;
+        }
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        return url.endsWith(path) ? url.substring(0, url.length() - path.length()) : url;
+    }
+
+    /**
+     * Recense les fichiers .class sous une racine (répertoire ou jar)
+     */
+    private static void collect(URL root, String path, List<ClassSource> sources, List<JarFile> jars)
+            throws IOException {
+        if ("file".equals(root.getProtocol())) {
+            Path directory;
+            try {
+                directory = Paths.get(root.toURI());
+            } catch (URISyntaxException e) {
+                directory = Paths.get(URLDecoder.decode(root.getPath(), "UTF-8"));
+            }
+            Path base = directory;
+            for (int i = path.isEmpty() ? 0 : path.split("/").length; i > 0; i--) {
+                base = base.getParent();
+            }
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    String name = base.relativize(file).toString().replace(File.separatorChar, '/');
+                    if (isClassFile(name)) {
+                        sources.add(new FileSource(toClassName(name), file));
+                    }
+                }
+            }
+        } else if ("jar".equals(root.getProtocol())) {
+            URLConnection connection = root.openConnection();
+            connection.setUseCaches(false);
+            JarFile jar = ((JarURLConnection) connection).getJarFile();
+            jars.add(jar);
+            String prefix = path.isEmpty() ? "" : path + "/";
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(prefix) && isClassFile(entry.getName())) {
+                    sources.add(new JarSource(toClassName(entry.getName()), jar, entry));
+                }
+            }
+        }
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+    }
+
+    private static String toClassName(String resourceName) {
+        return resourceName.substring(0, resourceName.length() - ".class".length()).replace('/', '.');
+    }
+
+    /**
+     * Vérifie si le bytecode d'une classe (pas une interface) porte l'annotation au niveau de la classe
+     */
+    static boolean hasClassAnnotation(byte[] bytecode, String descriptor) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytecode));
+        if (in.readInt() != MAGIC) {
+            return false;
+        }
+        in.skipBytes(4); // Versions
+
+        // Constant pool : seules les chaînes UTF8 sont conservées
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        boolean referenced = false;
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8[i] = in.readUTF();
+                    referenced |= descriptor.equals(utf8[i]);
+                    break;
+                case 7: case 8: case 16: case 19: case 20:
+                    in.skipBytes(2);
+                    break;
+                case 15:
+                    in.skipBytes(3);
+                    break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+                    in.skipBytes(4);
+                    break;
+                case 5: case 6:
+                    in.skipBytes(8);
+                    i++; // Occupe deux entrées
+                    break;
+                default:
+                    return false; // Format de classe inconnu : ignoré
+            }
+        }
+        if (!referenced) {
+            // Le descripteur n'apparaît nulle part dans la classe : inutile d'aller plus loin
+            return false;
+        }
+
+        int access = in.readUnsignedShort();
+        if ((access & ACC_INTERFACE) != 0) {
+            return false;
+        }
+        in.skipBytes(4); // this_class, super_class
+        in.skipBytes(2 * in.readUnsignedShort()); // Interfaces
+        skipMembers(in); // Fields
+        skipMembers(in); // Méthodes
+
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                in.skipBytes(length);
+                continue;
+            }
+            int annotations = in.readUnsignedShort();
+            for (int n = 0; n < annotations; n++) {
+                if (descriptor.equals(utf8[in.readUnsignedShort()])) {
+                    return true;
+                }
+                skipElementValuePairs(in);
+            }
+        }
+        return false;
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int members = in.readUnsignedShort();
+        for (int m = 0; m < members; m++) {
+            in.skipBytes(6); // access_flags, name, descriptor
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                in.skipBytes(2);
+                in.skipBytes(in.readInt());
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException {
+        int pairs = in.readUnsignedShort();
+        for (int p = 0; p < pairs; p++) {
+            in.skipBytes(2); // Nom de l'élément
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                in.skipBytes(4);
+                break;
+            case '@':
+                in.skipBytes(2);
+                skipElementValuePairs(in);
+                break;
+            case '[':
+                int values = in.readUnsignedShort();
+                for (int v = 0; v < values; v++) {
+                    skipElementValue(in);
+                }
+                break;
+            default:
+                in.skipBytes(2); // Constante, String ou classe
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Fichier .class à analyser
+     */
+    private abstract static class ClassSource {
+        final String className;
+
+        ClassSource(String className) {
+            this.className = className;
+        }
+
+        abstract byte[] read() throws IOException;
+
+        boolean isAnnotated(String descriptor) {
+            try {
+                return hasClassAnnotation(read(), descriptor);
+            } catch (EOFException e) {
+                return false; // Fichier tronqué : ignoré
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class FileSource extends ClassSource {
+        private final Path file;
+
+        FileSource(String className, Path file) {
+            super(className);
+            this.file = file;
+        }
+
+        @Override
+        byte[] read() throws IOException {
+            return Files.readAllBytes(file);
+        }
+    }
+
+    private static final class JarSource extends ClassSource {
+        private final JarFile jar;
+        private final JarEntry entry;
+
+        JarSource(String className, JarFile jar, JarEntry entry) {
+            super(className);
+            this.jar = jar;
+            this.entry = entry;
+        }
+
+        @Override
+        byte[] read() throws IOException {
+            try (InputStream in = jar.getInputStream(entry)) {
+                return readAll(in);
+            }
+        }
+    }
+}
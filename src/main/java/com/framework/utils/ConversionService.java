@@ -0,0 +1,291 @@
+package com.framework.utils;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service de conversion des valeurs littérales
+ * Le convertisseur d'un type est construit une fois puis mis en cache par type cible ;
+ * les convertisseurs enregistrés sont prioritaires sur ceux fournis par défaut :
+ * - String, types primitifs et leurs wrappers, BigDecimal, BigInteger
+ * - enums (nom exact, puis sans tenir compte de la casse)
+ * - Duration (ISO-8601 "PT5S", ou nombre suivi de ns, us, ms, s, m, h, d ; sans unité : ms)
+ * - tableaux et collections (List, Set, SortedSet, Collection) : éléments séparés par des virgules,
+ *   convertis selon le type des éléments (String si le type générique est inconnu)
+ * - sinon une méthode statique valueOf(String) ou of(String), ou un constructeur (String)
+ */
+public class ConversionService {
+
+    private final Map<Class<?>, Converter<?>> converters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter<?>> cache = new ConcurrentHashMap<>();
+
+    public ConversionService() {
+        register(String.class, value -> value);
+        register(Integer.class, Integer::parseInt);
+        register(Long.class, Long::parseLong);
+        register(Double.class, Double::parseDouble);
+        register(Float.class, Float::parseFloat);
+        register(Boolean.class, Boolean::parseBoolean);
+        register(Short.class, Short::parseShort);
+        register(Byte.class, Byte::parseByte);
+        register(Character.class, ConversionService::toCharacter);
+        register(BigDecimal.class, BigDecimal::new);
+        register(BigInteger.class, BigInteger::new);
+        register(Duration.class, ConversionService::toDuration);
+    }
+
+    /**
+     * Enregistre (ou remplace) le convertisseur d'un type ; un wrapper couvre aussi le type primitif
+     * Les valeurs déjà converties par le container ne sont pas recalculées : enregistrer
+     * les convertisseurs avant la première création de bean
+     */
+    public <T> void register(Class<T> type, Converter<? extends T> converter) {
+        converters.put(wrap(type), converter);
+        cache.clear();
+    }
+
+    /**
+     * Convertit une valeur vers un type (Class ou type paramétré, ex. List&lt;Integer&gt;)
+     *
+     * @throws IllegalArgumentException si la valeur est invalide ou le type non convertible
+     */
+    public Object convert(String value, Type targetType) {
+        if (value == null) {
+            return null;
+        }
+        Converter<?> converter = converterFor(targetType);
+        try {
+            return converter.convert(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Impossible de convertir '" + value + "' en " + targetType.getTypeName(), e);
+        }
+    }
+
+    /**
+     * Vrai si le type a un convertisseur : enregistré, fourni par défaut ou trouvé par fabrique
+     */
+    public boolean canConvert(Type targetType) {
+        return !(converterFor(targetType) instanceof Unsupported);
+    }
+
+    /**
+     * Convertisseur d'un type, construit au premier usage puis lu dans le cache
+     */
+    public Converter<?> converterFor(Type targetType) {
+        Converter<?> converter = cache.get(targetType);
+        if (converter == null) {
+            converter = createConverter(targetType);
+            cache.putIfAbsent(targetType, converter);
+        }
+        return converter;
+    }
+
+    private Converter<?> createConverter(Type targetType) {
+        Class<?> raw = rawClass(targetType);
+        Converter<?> registered = converters.get(wrap(raw));
+        if (registered != null) {
+            return registered;
+        }
+        if (raw == Object.class || raw == CharSequence.class) {
+            return value -> value;
+        }
+        if (raw.isEnum()) {
+            return enumConverter(raw);
+        }
+        if (raw.isArray()) {
+            return arrayConverter(raw.getComponentType());
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return collectionConverter(raw, elementType(targetType));
+        }
+        return factoryConverter(raw);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Converter<?> enumConverter(Class<?> type) {
+        Object[] constants = type.getEnumConstants();
+        return value -> {
+            String name = value.trim();
+            try {
+                return Enum.valueOf((Class) type, name);
+            } catch (IllegalArgumentException e) {
+                for (Object constant : constants) {
+                    if (((Enum<?>) constant).name().equalsIgnoreCase(name)) {
+                        return constant;
+                    }
+                }
+                throw e;
+            }
+        };
+    }
+
+    private Converter<?> arrayConverter(Class<?> componentType) {
+        Converter<?> element = converterFor(componentType);
+        return value -> {
+            List<String> items = split(value);
+            Object array = Array.newInstance(componentType, items.size());
+            for (int i = 0; i < items.size(); i++) {
+                Array.set(array, i, element.convert(items.get(i)));
+            }
+            return array;
+        };
+    }
+
+    private Converter<?> collectionConverter(Class<?> collectionType, Type elementType) {
+        Converter<?> element = converterFor(elementType);
+        return value -> {
+            Collection<Object> collection;
+            if (SortedSet.class.isAssignableFrom(collectionType)) {
+                collection = new TreeSet<>();
+            } else if (Set.class.isAssignableFrom(collectionType)) {
+                collection = new LinkedHashSet<>();
+            } else {
+                collection = new ArrayList<>();
+            }
+            for (String item : split(value)) {
+                collection.add(element.convert(item));
+            }
+            return collection;
+        };
+    }
+
+    /**
+     * valueOf(String), of(String) ou constructeur (String) du type
+     */
+    private static Converter<?> factoryConverter(Class<?> type) {
+        for (String name : new String[] { "valueOf", "of" }) {
+            try {
+                Method method = type.getMethod(name, String.class);
+                if (Modifier.isStatic(method.getModifiers()) && type.isAssignableFrom(method.getReturnType())) {
+                    return value -> invoke(() -> method.invoke(null, value));
+                }
+            } catch (NoSuchMethodException e) {
+                // Essayer la fabrique suivante
+            }
+        }
+        try {
+            Constructor<?> constructor = type.getConstructor(String.class);
+            return value -> invoke(() -> constructor.newInstance(value));
+        } catch (NoSuchMethodException e) {
+            return new Unsupported(type);
+        }
+    }
+
+    /**
+     * Type sans convertisseur : l'erreur n'est levée qu'à la conversion (voir canConvert)
+     */
+    private static final class Unsupported implements Converter<Object> {
+        private final Class<?> type;
+
+        Unsupported(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object convert(String value) {
+            throw new IllegalArgumentException("Aucun convertisseur pour le type: " + type.getName());
+        }
+    }
+
+    private interface Factory {
+        Object create() throws ReflectiveOperationException;
+    }
+
+    private static Object invoke(Factory factory) {
+        try {
+            return factory.create();
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) cause;
+            }
+            throw new IllegalArgumentException(cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Character toCharacter(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Un caractère est attendu: '" + value + "'");
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * ISO-8601 (PT5S) ou nombre suivi d'une unité (ns, us, ms, s, m, h, d), en millisecondes par défaut
+     */
+    static Duration toDuration(String value) {
+        String text = value.trim();
+        if (text.startsWith("P") || text.startsWith("p") || text.startsWith("-P")) {
+            return Duration.parse(text);
+        }
+        int end = 0;
+        while (end < text.length() && (Character.isDigit(text.charAt(end)) || (end == 0 && text.charAt(0) == '-'))) {
+            end++;
+        }
+        long amount = Long.parseLong(text.substring(0, end));
+        String unit = text.substring(end).trim();
+        switch (unit) {
+            case "ns": return Duration.ofNanos(amount);
+            case "us": return Duration.ofNanos(amount * 1_000);
+            case "":
+            case "ms": return Duration.ofMillis(amount);
+            case "s": return Duration.ofSeconds(amount);
+            case "m": return Duration.ofMinutes(amount);
+            case "h": return Duration.ofHours(amount);
+            case "d": return Duration.ofDays(amount);
+            default: throw new IllegalArgumentException("Unité de durée inconnue: " + unit);
+        }
+    }
+
+    private static List<String> split(String value) {
+        List<String> items = new ArrayList<>();
+        if (value.trim().isEmpty()) {
+            return items;
+        }
+        for (String item : value.split(",")) {
+            items.add(item.trim());
+        }
+        return items;
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawClass(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        return Object.class; // Variable de type ou joker
+    }
+
+    /**
+     * Type des éléments d'une collection paramétrée (String s'il est inconnu)
+     */
+    private static Type elementType(Type collectionType) {
+        if (collectionType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) collectionType).getActualTypeArguments()[0];
+            if (argument instanceof WildcardType) {
+                argument = ((WildcardType) argument).getUpperBounds()[0];
+            }
+            if (argument instanceof Class || argument instanceof ParameterizedType) {
+                return argument;
+            }
+        }
+        return String.class;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
@@ -0,0 +1,10 @@
+package com.framework.utils;
+
+/**
+ * Convertit une valeur littérale (attribut XML, valeur de propriété) vers un type
+ */
+@FunctionalInterface
+public interface Converter<T> {
+
+    T convert(String value);
+}
@@ -8,6 +8,8 @@ import java.util.*;
  */
 public class ReflectionUtils {
 
+    private static final ConversionService CONVERSIONS = new ConversionService();
+
     /**
      * Obtient toutes les annotations d'un type particulier d'une classe
      */
@@ -92,7 +94,7 @@ public class ReflectionUtils {
     /**
      * Crée une instance d'une classe utilisant le constructeur par défaut
      */
-    public static Object instantiate(Class<?> clazz) throws InstantiationException, IllegalAccessException, InvocationTargetException {
+    public static Object instantiate(Class<?> clazz) throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
         Constructor<?> constructor = clazz.getDeclaredConstructor();
         constructor.setAccessible(true);
         return constructor.newInstance();
@@ -135,24 +137,24 @@ public class ReflectionUtils {
     }
 
     /**
-     * Convertit une valeur String vers le type cible
+     * Convertit une valeur String vers le type cible avec les seuls convertisseurs par défaut
+     *
+     * @deprecated ignore les convertisseurs enregistrés (registerConverter) : utiliser
+     * {@link #convertValue(String, Class, ConversionService)} avec BeanContainer.getConversionService()
      */
+    @Deprecated
     public static Object convertValue(String value, Class<?> targetType) {
-        if (value == null) return null;
-        
-        if (targetType == String.class) {
+        return convertValue(value, targetType, CONVERSIONS);
+    }
+
+    /**
+     * Convertit une valeur String vers le type cible avec un service de conversion
+     * Un type sans convertisseur reçoit la valeur brute, comme avant le ConversionService
+     */
+    public static Object convertValue(String value, Class<?> targetType, ConversionService conversions) {
+        if (value == null || !conversions.canConvert(targetType)) {
             return value;
-        } else if (targetType == int.class || targetType == Integer.class) {
-            return Integer.parseInt(value);
-        } else if (targetType == long.class || targetType == Long.class) {
-            return Long.parseLong(value);
-        } else if (targetType == double.class || targetType == Double.class) {
-            return Double.parseDouble(value);
-        } else if (targetType == float.class || targetType == Float.class) {
-            return Float.parseFloat(value);
-        } else if (targetType == boolean.class || targetType == Boolean.class) {
-            return Boolean.parseBoolean(value);
         }
-        return value;
+        return conversions.convert(value, targetType);
     }
 }
@@ -0,0 +1,53 @@
+package com.framework.xml;
+
+import com.framework.container.BeanDefinition;
+import com.framework.exception.BeanDefinitionException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contenu d'un fichier de configuration : ses définitions et ses imports, dans l'ordre du document
+ */
+final class ConfigFile {
+
+    final File file;
+    final List<String> imports;
+    final Map<String, BeanDefinition> definitions;
+
+    ConfigFile(File file, List<String> imports, Map<String, BeanDefinition> definitions) {
+        this.file = file;
+        this.imports = imports;
+        this.definitions = definitions;
+    }
+
+    /**
+     * Parse le contenu d'un fichier (sans suivre ses imports)
+     */
+    static ConfigFile parse(File file, byte[] content) {
+        List<String> imports = new ArrayList<>();
+        Map<String, BeanDefinition> definitions = new LinkedHashMap<>();
+        XmlParser.parse(new ByteArrayInputStream(content), file.getName(),
+                definition -> XmlParser.addDefinition(definitions, definition, file.getPath()), imports::add);
+        return new ConfigFile(file, imports, definitions);
+    }
+
+    /**
+     * Fichier désigné par un import, relatif au répertoire du fichier courant
+     */
+    File resolveImport(String resource) {
+        File imported = new File(resource);
+        if (!imported.isAbsolute()) {
+            File directory = file.getAbsoluteFile().getParentFile();
+            imported = new File(directory, resource);
+        }
+        if (!imported.isFile()) {
+            throw new BeanDefinitionException("Fichier importé introuvable: " + resource + " (depuis " + file.getPath() + ")");
+        }
+        return imported;
+    }
+}
@@ -0,0 +1,419 @@
+package com.framework.xml;
+
+import com.framework.container.BeanDefinition;
+import com.framework.container.ClassResolver;
+import com.framework.container.InjectionMode;
+import com.framework.exception.BeanDefinitionException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot binaire des définitions de beans d'un fichier XML
+ * Les snapshots sont désactivés par défaut : ils ne sont écrits que dans un répertoire fourni
+ * par l'appelant (propriété framework.snapshot.dir ou XmlConfigLoader), créé avec des droits
+ * réservés au propriétaire ; un répertoire existant accessible en écriture à d'autres
+ * utilisateurs (ou à un autre propriétaire) est ignoré
+ *
+ * Un snapshot par fichier XML, nommé d'après le hash de son chemin ; il n'est utilisé que si
+ * le chemin, la date, la taille et le hash SHA-256 du XML correspondent à son en-tête
+ * Chaque écriture purge le répertoire : snapshots de plus de MAX_AGE_DAYS jours, puis les
+ * plus anciens au-delà de MAX_SNAPSHOTS
+ *
+ * Format : en-tête (magic, version, chemin, date, taille, hash), table des chaînes (chaque chaîne une seule fois),
+ * puis les imports et les beans dont les chaînes sont des indices dans la table et les types des tags
+ * Le snapshot est lu par un mapping mémoire du fichier ; comme pour le XML, les classes
+ * ne sont pas chargées à la lecture
+ */
+public class DefinitionSnapshot {
+
+    /**
+     * Répertoire des snapshots ; sans cette propriété, aucun snapshot n'est lu ni écrit
+     */
+    public static final String DIRECTORY_PROPERTY = "framework.snapshot.dir";
+
+    /**
+     * Nombre maximal de snapshots gardés dans le répertoire
+     */
+    public static final int MAX_SNAPSHOTS = 256;
+
+    /**
+     * Âge maximal (depuis leur écriture) des snapshots gardés dans le répertoire
+     */
+    public static final int MAX_AGE_DAYS = 30;
+
+    private static final String SUFFIX = ".snapshot";
+    private static final String TEMP_PREFIX = "snapshot";
+    private static final long TEMP_MAX_AGE_MS = TimeUnit.HOURS.toMillis(1); // Fichier temporaire d'une écriture interrompue
+
+    private static final int MAGIC = 0x44494E53; // "DINS"
+    private static final int VERSION = 4;
+    private static final int NULL = -1;
+
+    private static final InjectionMode[] MODES = { null, InjectionMode.CONSTRUCTOR, InjectionMode.SETTER, InjectionMode.FIELD };
+    private static final Class<?>[] TYPES = { null, int.class, long.class, double.class, float.class, boolean.class, String.class };
+    private static final byte CLASS_TYPE = 7; // Suivi de l'indice du nom de classe
+
+    private static final int FLAG_SINGLETON = 1;
+    private static final int FLAG_LAZY = 2;
+
+    /**
+     * Charge les définitions d'un fichier XML (et de ses imports) via leurs snapshots
+     * s'ils sont activés (voir DIRECTORY_PROPERTY)
+     */
+    public static Map<String, BeanDefinition> parseXml(File xmlFile) {
+        return XmlConfigLoader.load(Collections.singletonList(xmlFile), null, configuredDirectory());
+    }
+
+    /**
+     * Charge les définitions d'un fichier XML (et de ses imports) via les snapshots du répertoire donné
+     */
+    public static Map<String, BeanDefinition> parseXml(File xmlFile, Path directory) {
+        return XmlConfigLoader.load(Collections.singletonList(xmlFile), null, directory);
+    }
+
+    /**
+     * Répertoire des snapshots configuré, ou null s'ils ne sont pas activés
+     */
+    public static Path configuredDirectory() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return directory == null || directory.isEmpty() ? null : Paths.get(directory);
+    }
+
+    /**
+     * Charge un fichier via son snapshot, ou le parse et écrit le snapshot
+     * Sans répertoire sûr, le fichier est seulement parsé
+     */
+    static ConfigFile parse(File xmlFile, Path directory) {
+        Source source = Source.read(xmlFile);
+        if (!secureDirectory(directory)) {
+            return ConfigFile.parse(xmlFile, source.content);
+        }
+        Path snapshot = directory.resolve(toHex(sha256(source.path.getBytes(StandardCharsets.UTF_8))) + SUFFIX);
+
+        if (Files.isRegularFile(snapshot, LinkOption.NOFOLLOW_LINKS)) {
+            try {
+                return read(xmlFile, snapshot, source);
+            } catch (IOException | RuntimeException e) {
+                // Snapshot illisible, incomplet ou obsolète : il est régénéré
+            }
+        }
+
+        ConfigFile config = ConfigFile.parse(xmlFile, source.content);
+        try {
+            write(config, source, snapshot);
+            prune(directory, snapshot);
+        } catch (IOException e) {
+            // Le snapshot n'est qu'un cache : son absence ralentit seulement le prochain démarrage
+        }
+        return config;
+    }
+
+    /**
+     * Crée le répertoire (droits réservés au propriétaire) s'il n'existe pas ; vrai s'il
+     * appartient à l'utilisateur courant et n'est accessible en écriture qu'à lui
+     */
+    private static boolean secureDirectory(Path directory) {
+        try {
+            boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+            if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+                if (posix) {
+                    Files.createDirectories(directory,
+                            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+                } else {
+                    Files.createDirectories(directory);
+                }
+            }
+            if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+                return false;
+            }
+            if (!posix) {
+                return true;
+            }
+            UserPrincipal user = directory.getFileSystem().getUserPrincipalLookupService()
+                    .lookupPrincipalByName(System.getProperty("user.name"));
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS);
+            return user.equals(Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS))
+                    && !permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Supprime les snapshots trop anciens puis les plus anciens au-delà de MAX_SNAPSHOTS,
+     * ainsi que les fichiers temporaires d'écritures interrompues ; le snapshot courant est gardé
+     */
+    static void prune(Path directory, Path current) throws IOException {
+        long now = System.currentTimeMillis();
+        long oldest = now - TimeUnit.DAYS.toMillis(MAX_AGE_DAYS);
+        List<Path> kept = new ArrayList<>();
+        Map<Path, Long> modified = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                boolean snapshot = name.endsWith(SUFFIX);
+                boolean temp = name.startsWith(TEMP_PREFIX) && name.endsWith(".tmp");
+                if ((!snapshot && !temp) || file.equals(current)) {
+                    continue;
+                }
+                long lastModified = Files.getLastModifiedTime(file, LinkOption.NOFOLLOW_LINKS).toMillis();
+                if (snapshot ? lastModified < oldest : lastModified < now - TEMP_MAX_AGE_MS) {
+                    Files.deleteIfExists(file);
+                } else if (snapshot) {
+                    kept.add(file);
+                    modified.put(file, lastModified);
+                }
+            }
+        }
+        if (kept.size() >= MAX_SNAPSHOTS) {
+            kept.sort(Comparator.comparing(modified::get));
+            for (Path file : kept.subList(0, kept.size() - MAX_SNAPSHOTS + 1)) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Écrit un snapshot (fichier temporaire puis renommage atomique)
+     */
+    static void write(ConfigFile config, Source source, Path snapshot) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+
+        out.writeInt(config.imports.size());
+        for (String resource : config.imports) {
+            out.writeInt(index(strings, resource));
+        }
+
+        Map<String, BeanDefinition> definitions = config.definitions;
+        out.writeInt(definitions.size());
+        for (BeanDefinition definition : definitions.values()) {
+            out.writeInt(index(strings, definition.getId()));
+            out.writeInt(index(strings, definition.getClassName()));
+            out.writeByte((definition.isSingleton() ? FLAG_SINGLETON : 0) | (definition.isLazyInit() ? FLAG_LAZY : 0));
+            out.writeInt(index(strings, definition.getScope()));
+            out.writeByte(Arrays.asList(MODES).indexOf(definition.getInjectionMode()));
+
+            List<String> values = definition.getConstructorArgValues();
+            out.writeInt(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                out.writeInt(index(strings, values.get(i)));
+                out.writeInt(index(strings, definition.getConstructorArgRefs().get(i)));
+                writeType(out, strings, definition.getConstructorArgTypes().get(i),
+                        definition.getConstructorArgTypeNames().get(i));
+            }
+
+            Map<String, String> properties = definition.getPropertyValues();
+            out.writeInt(properties.size());
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                out.writeInt(index(strings, property.getKey()));
+                out.writeInt(index(strings, property.getValue()));
+                out.writeInt(index(strings, definition.getPropertyRefs().get(property.getKey())));
+                Class<?> type = definition.getPropertyTypes().get(property.getKey());
+                writeType(out, strings, type, type != null ? type.getName() : null);
+            }
+        }
+        out.flush();
+
+        Path temp = Files.createTempFile(snapshot.getParent(), TEMP_PREFIX, ".tmp");
+        try (DataOutputStream file = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            file.writeInt(MAGIC);
+            file.writeInt(VERSION);
+            byte[] path = source.path.getBytes(StandardCharsets.UTF_8);
+            file.writeInt(path.length);
+            file.write(path);
+            file.writeLong(source.lastModified);
+            file.writeLong(source.length);
+            file.write(source.hash);
+            file.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                file.writeInt(bytes.length);
+                file.write(bytes);
+            }
+            body.writeTo(file);
+        }
+        try {
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Lit un snapshot par mapping mémoire, après avoir vérifié que son en-tête décrit
+     * bien le fichier XML lu (chemin, date, taille et hash du contenu)
+     */
+    static ConfigFile read(File xmlFile, Path snapshot, Source source) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ, LinkOption.NOFOLLOW_LINKS)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Snapshot invalide: " + snapshot);
+        }
+        int pathLength = buffer.getInt();
+        if (pathLength < 0 || pathLength > buffer.remaining()) {
+            throw new IOException("Snapshot invalide: " + snapshot);
+        }
+        byte[] path = new byte[pathLength];
+        buffer.get(path);
+        long lastModified = buffer.getLong();
+        long length = buffer.getLong();
+        byte[] hash = new byte[source.hash.length];
+        buffer.get(hash);
+        if (!source.path.equals(new String(path, StandardCharsets.UTF_8))
+                || lastModified != source.lastModified || length != source.length
+                || !Arrays.equals(hash, source.hash)) {
+            throw new IOException("Snapshot obsolète: " + snapshot);
+        }
+
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        List<String> imports = new ArrayList<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            imports.add(string(strings, buffer));
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        int count = buffer.getInt();
+        Map<String, BeanDefinition> definitions = new LinkedHashMap<>(count * 4 / 3 + 1);
+        for (int b = 0; b < count; b++) {
+            BeanDefinition definition = new BeanDefinition(string(strings, buffer), string(strings, buffer));
+            int flags = buffer.get();
+            definition.setSingleton((flags & FLAG_SINGLETON) != 0);
+            definition.setLazyInit((flags & FLAG_LAZY) != 0);
+            definition.setScope(string(strings, buffer));
+            definition.setInjectionMode(MODES[buffer.get()]);
+
+            int args = buffer.getInt();
+            for (int i = 0; i < args; i++) {
+                String value = string(strings, buffer);
+                String ref = string(strings, buffer);
+                byte tag = buffer.get();
+                if (tag == CLASS_TYPE) {
+                    // Résolu plus tard avec la classe du bean (ClassResolver)
+                    definition.addConstructorArg(value, ref, string(strings, buffer));
+                } else {
+                    definition.addConstructorArg(value, ref, TYPES[tag]);
+                }
+            }
+            int properties = buffer.getInt();
+            for (int i = 0; i < properties; i++) {
+                String name = string(strings, buffer);
+                String value = string(strings, buffer);
+                String ref = string(strings, buffer);
+                byte tag = buffer.get();
+                Class<?> type = tag == CLASS_TYPE ? resolveType(string(strings, buffer), classLoader) : TYPES[tag];
+                definition.addProperty(name, value, ref, type);
+            }
+            definitions.put(definition.getId(), definition);
+        }
+        return new ConfigFile(xmlFile, imports, definitions);
+    }
+
+    private static int index(Map<String, Integer> strings, String value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer index = strings.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.put(value, index);
+        }
+        return index;
+    }
+
+    private static String string(String[] strings, ByteBuffer buffer) {
+        int index = buffer.getInt();
+        return index == NULL ? null : strings[index];
+    }
+
+    /**
+     * Tag du type ; un type non résolu (ou non primitif) est écrit par son nom
+     */
+    private static void writeType(DataOutputStream out, Map<String, Integer> strings, Class<?> type,
+                                  String typeName) throws IOException {
+        int tag = type != null || typeName == null ? Arrays.asList(TYPES).indexOf(type) : -1;
+        if (tag >= 0) {
+            out.writeByte(tag);
+        } else {
+            out.writeByte(CLASS_TYPE);
+            out.writeInt(index(strings, typeName));
+        }
+    }
+
+    private static Class<?> resolveType(String typeName, ClassLoader classLoader) {
+        try {
+            return ClassResolver.resolveType(typeName, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new BeanDefinitionException("Type non trouvé: " + typeName, e);
+        }
+    }
+
+    /**
+     * Fichier XML lu : chemin absolu, date et taille relevées avant la lecture, contenu et hash
+     */
+    static final class Source {
+        final String path;
+        final long lastModified;
+        final long length;
+        final byte[] content;
+        final byte[] hash;
+
+        private Source(String path, long lastModified, long length, byte[] content) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.content = content;
+            this.hash = sha256(content);
+        }
+
+        static Source read(File xmlFile) {
+            try {
+                long lastModified = xmlFile.lastModified();
+                long length = xmlFile.length();
+                byte[] content = Files.readAllBytes(xmlFile.toPath());
+                return new Source(xmlFile.toPath().toAbsolutePath().normalize().toString(), lastModified, length, content);
+            } catch (IOException e) {
+                throw new BeanDefinitionException("Erreur lors de la lecture du fichier XML: " + xmlFile.getName(), e);
+            }
+        }
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-256 est garanti par la plateforme
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,191 @@
+package com.framework.xml;
+
+import com.framework.container.BeanDefinition;
+import com.framework.exception.BeanDefinitionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Chargement d'une configuration répartie sur plusieurs fichiers XML
+ * Chaque fichier (et chaque fichier importé dès qu'il est découvert) est parsé en parallèle ;
+ * la fusion est ensuite faite en une passe, dans un ordre déterministe : fichiers dans l'ordre
+ * des arguments, les imports d'un fichier avant ses propres beans, chaque fichier une seule fois
+ * Un ID défini dans plusieurs fichiers est une erreur ; tous les doublons sont signalés ensemble
+ *
+ * Une instance garde les fichiers déjà lus : un nouveau chargement ne parse que les fichiers
+ * modifiés depuis (date et taille), les autres rendent les mêmes objets BeanDefinition
+ */
+public final class XmlConfigLoader {
+
+    private final Executor executor;
+    private final Path snapshotDirectory;
+    private final Map<Path, Loaded> files = new ConcurrentHashMap<>();
+    private volatile Set<Path> loadedFiles = Collections.emptySet();
+
+    /**
+     * @param executor          executor des parsings (null : pool commun)
+     * @param snapshotDirectory répertoire des snapshots binaires (null : pas de snapshot)
+     */
+    public XmlConfigLoader(Executor executor, Path snapshotDirectory) {
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    /**
+     * Charge et fusionne des fichiers de configuration
+     *
+     * @param executor          executor des parsings (null : pool commun)
+     * @param snapshotDirectory répertoire des snapshots binaires (null : pas de snapshot)
+     */
+    public static Map<String, BeanDefinition> load(List<File> xmlFiles, Executor executor, Path snapshotDirectory) {
+        return new XmlConfigLoader(executor, snapshotDirectory).load(xmlFiles);
+    }
+
+    /**
+     * Charge et fusionne des fichiers de configuration, en ne relisant que les fichiers
+     * modifiés (ou en erreur) depuis le chargement précédent
+     */
+    public synchronized Map<String, BeanDefinition> load(List<File> xmlFiles) {
+        files.values().removeIf(Loaded::isStale);
+        for (File file : xmlFiles) {
+            submit(file);
+        }
+        return merge(xmlFiles);
+    }
+
+    /**
+     * Fichiers (chemins absolus) lus par le dernier chargement, imports compris
+     */
+    public Set<Path> getLoadedFiles() {
+        return loadedFiles;
+    }
+
+    /**
+     * Lance le parsing d'un fichier (une seule fois par fichier) puis celui de ses imports
+     * Le fichier est réservé par putIfAbsent et la tâche soumise ensuite, hors de la map :
+     * avec un executor direct, les imports sont soumis récursivement depuis ce même appel
+     */
+    private CompletableFuture<ConfigFile> submit(File file) {
+        Path key = file.toPath().toAbsolutePath().normalize();
+        Loaded existing = files.get(key);
+        if (existing != null) {
+            return existing.config;
+        }
+        Loaded loaded = new Loaded(file, file.lastModified(), file.length(), new CompletableFuture<>());
+        existing = files.putIfAbsent(key, loaded);
+        if (existing != null) {
+            return existing.config;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    ConfigFile config = parse(file);
+                    for (String resource : config.imports) {
+                        submit(config.resolveImport(resource));
+                    }
+                    loaded.config.complete(config);
+                } catch (Throwable e) {
+                    loaded.config.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loaded.config.completeExceptionally(e);
+        }
+        return loaded.config;
+    }
+
+    private ConfigFile parse(File file) {
+        if (snapshotDirectory != null) {
+            return DefinitionSnapshot.parse(file, snapshotDirectory);
+        }
+        try {
+            return ConfigFile.parse(file, Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            throw new BeanDefinitionException("Erreur lors de la lecture du fichier XML: " + file.getPath(), e);
+        }
+    }
+
+    /**
+     * Fusion en une passe (parcours en profondeur des imports)
+     */
+    private Map<String, BeanDefinition> merge(List<File> roots) {
+        Map<String, BeanDefinition> merged = new LinkedHashMap<>();
+        Map<String, String> sources = new HashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        Set<Path> visited = new HashSet<>();
+
+        Deque<Object> pending = new ArrayDeque<>(); // Fichier à ouvrir, ou ConfigFile dont les imports sont faits
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            pending.push(roots.get(i));
+        }
+        while (!pending.isEmpty()) {
+            Object next = pending.pop();
+            if (next instanceof ConfigFile) {
+                ConfigFile config = (ConfigFile) next;
+                for (BeanDefinition definition : config.definitions.values()) {
+                    String previous = sources.putIfAbsent(definition.getId(), config.file.getPath());
+                    if (previous == null) {
+                        merged.put(definition.getId(), definition);
+                    } else {
+                        duplicates.add(definition.getId() + " (" + previous + ", " + config.file.getPath() + ")");
+                    }
+                }
+                continue;
+            }
+            File file = (File) next;
+            if (!visited.add(file.toPath().toAbsolutePath().normalize())) {
+                continue;
+            }
+            ConfigFile config = join(submit(file));
+            pending.push(config);
+            for (int i = config.imports.size() - 1; i >= 0; i--) {
+                pending.push(config.resolveImport(config.imports.get(i)));
+            }
+        }
+
+        if (!duplicates.isEmpty()) {
+            throw new BeanDefinitionException("IDs de beans dupliqués: " + String.join(", ", duplicates));
+        }
+        loadedFiles = Collections.unmodifiableSet(visited);
+        return merged;
+    }
+
+    private static ConfigFile join(CompletableFuture<ConfigFile> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BeanDefinitionException) {
+                throw (BeanDefinitionException) e.getCause();
+            }
+            throw new BeanDefinitionException("Erreur lors du chargement de la configuration XML", e.getCause());
+        }
+    }
+
+    /**
+     * Fichier en cours de lecture ou lu, avec sa date et sa taille relevées avant la lecture
+     * (une modification pendant le parsing sera donc vue au chargement suivant)
+     */
+    private static final class Loaded {
+        final File file;
+        final long lastModified;
+        final long length;
+        final CompletableFuture<ConfigFile> config;
+
+        Loaded(File file, long lastModified, long length, CompletableFuture<ConfigFile> config) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.config = config;
+        }
+
+        boolean isStale() {
+            return config.isCompletedExceptionally()
+                    || file.lastModified() != lastModified || file.length() != length;
+        }
+    }
+}
@@ -3,20 +3,35 @@ package com.framework.xml;
 import com.framework.container.BeanDefinition;
 import com.framework.container.InjectionMode;
 import com.framework.exception.BeanDefinitionException;
-import com.framework.xml.beans.*;
+import com.framework.jfr.XmlParseEvent;
 
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import java.io.File;
-import java.io.InputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Parseur pour les fichiers de configuration XML
+ * Lecture en flux (StAX) : chaque <bean> est converti en BeanDefinition dès sa fermeture,
+ * sans construire d'arbre intermédiaire ; la mémoire du parseur ne dépend pas de la taille du fichier
+ * Aucune classe n'est chargée : les noms sont résolus plus tard par ClassResolver
  */
 public class XmlParser {
 
+    // La fabrique est thread-safe une fois configurée : elle est partagée par tous les parsings
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
     /**
      * Parse un fichier XML et retourne les définitions des beans
      */
@@ -38,49 +53,120 @@ public class XmlParser {
             if (inputStream == null) {
                 throw new BeanDefinitionException("Ressource non trouvée: " + resourcePath);
             }
-            return parseXmlFromStream(inputStream);
+            try (InputStream in = inputStream) {
+                return parseXmlFromStream(in);
+            }
         } catch (Exception e) {
             throw new BeanDefinitionException("Erreur lors de la lecture de la ressource XML: " + resourcePath, e);
         }
     }
 
     /**
-     * Parse un fichier XML
+     * Parse un fichier XML, avec ses <import resource="..."/> (voir XmlConfigLoader)
      */
     public static Map<String, BeanDefinition> parseXml(File xmlFile) {
-        try {
-            JAXBContext context = JAXBContext.newInstance(Beans.class);
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            Beans beansConfig = (Beans) unmarshaller.unmarshal(xmlFile);
-            return extractBeanDefinitions(beansConfig);
-        } catch (JAXBException e) {
-            throw new BeanDefinitionException("Erreur lors du parsing du fichier XML: " + xmlFile.getName(), e);
-        }
+        return XmlConfigLoader.load(Collections.singletonList(xmlFile), null, null);
     }
 
     /**
      * Parse un fichier XML à partir d'un InputStream
+     * Les <import> ne sont pas supportés : sans fichier, leur chemin relatif n'a pas de base
      */
     public static Map<String, BeanDefinition> parseXmlFromStream(InputStream inputStream) {
-        try {
-            JAXBContext context = JAXBContext.newInstance(Beans.class);
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            Beans beansConfig = (Beans) unmarshaller.unmarshal(inputStream);
-            return extractBeanDefinitions(beansConfig);
-        } catch (JAXBException e) {
-            throw new BeanDefinitionException("Erreur lors du parsing du fichier XML", e);
+        Map<String, BeanDefinition> definitions = new LinkedHashMap<>();
+        parse(inputStream, null, definition -> addDefinition(definitions, definition, null), resource -> {
+            throw new BeanDefinitionException("<import> non supporté pour un flux XML: " + resource);
+        });
+        return definitions;
+    }
+
+    /**
+     * Ajoute une définition en refusant les IDs dupliqués
+     */
+    static void addDefinition(Map<String, BeanDefinition> definitions, BeanDefinition definition, String sourceName) {
+        if (definitions.putIfAbsent(definition.getId(), definition) != null) {
+            throw new BeanDefinitionException("ID de bean dupliqué: " + definition.getId()
+                    + (sourceName != null ? " (" + sourceName + ")" : ""));
         }
     }
 
     /**
-     * Extrait les définitions des beans à partir de la configuration JAXB
+     * Parse un flux XML et transmet chaque définition au consumer dès que son <bean> est lu
+     * Les <import> sont ignorés ; le flux n'est pas fermé
+     */
+    public static void parse(InputStream inputStream, String sourceName, Consumer<BeanDefinition> consumer) {
+        parse(inputStream, sourceName, consumer, resource -> { });
+    }
+
+    /**
+     * Parse un flux XML : chaque <bean> est transmis au consumer, chaque <import resource="..."/>
+     * à importConsumer ; le flux n'est pas fermé
      */
-    private static Map<String, BeanDefinition> extractBeanDefinitions(Beans beansConfig) {
-        Map<String, BeanDefinition> definitions = new HashMap<>();
+    public static void parse(InputStream inputStream, String sourceName, Consumer<BeanDefinition> consumer,
+                             Consumer<String> importConsumer) {
+        XmlParseEvent parseEvent = new XmlParseEvent(); // Sans effet si l'événement JFR est désactivé
+        parseEvent.begin();
+        int beanCount = 0;
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(inputStream);
+            BeanReader bean = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String element = reader.getLocalName();
+                    if ("bean".equals(element)) {
+                        bean = new BeanReader(reader);
+                    } else if ("import".equals(element) && bean == null) {
+                        String resource = reader.getAttributeValue(null, "resource");
+                        if (resource == null || resource.isEmpty()) {
+                            throw new BeanDefinitionException("Un import doit avoir un attribut 'resource'");
+                        }
+                        importConsumer.accept(resource);
+                    } else if (bean != null) {
+                        bean.element(element, reader);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "bean".equals(reader.getLocalName())) {
+                    consumer.accept(bean.build());
+                    beanCount++;
+                    bean = null;
+                }
+            }
+        } catch (XMLStreamException e) {
+            String message = sourceName != null
+                    ? "Erreur lors du parsing du fichier XML: " + sourceName
+                    : "Erreur lors du parsing du fichier XML";
+            throw new BeanDefinitionException(message, e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Rien à libérer de plus
+                }
+            }
+            if (parseEvent.shouldCommit()) {
+                parseEvent.source = sourceName;
+                parseEvent.beanCount = beanCount;
+                parseEvent.commit();
+            }
+        }
+    }
 
-        for (Bean bean : beansConfig.getBeans()) {
-            String beanId = bean.getId();
-            String beanClassName = bean.getClassName();
+    /**
+     * État d'un <bean> en cours de lecture
+     */
+    private static final class BeanReader {
+        private final BeanDefinition definition;
+        private boolean constructor;
+        private List<String[]> properties; // Ignorées si un constructeur est défini
+
+        BeanReader(XMLStreamReader reader) {
+            String beanId = reader.getAttributeValue(null, "id");
+            String beanClassName = reader.getAttributeValue(null, "class");
+            if (beanClassName == null) {
+                beanClassName = reader.getAttributeValue(null, "class_");
+            }
 
             if (beanId == null || beanId.isEmpty()) {
                 throw new BeanDefinitionException("Un bean doit avoir un ID");
@@ -89,74 +175,54 @@ public class XmlParser {
                 throw new BeanDefinitionException("Un bean doit avoir une classe (attribut 'class')");
             }
 
-            BeanDefinition definition = new BeanDefinition(beanId, beanClassName);
+            definition = new BeanDefinition(beanId, beanClassName);
+            String lazyInit = reader.getAttributeValue(null, "lazy-init");
+            definition.setLazyInit("true".equals(lazyInit) || "1".equals(lazyInit));
+            String scope = reader.getAttributeValue(null, "scope");
+            if (scope != null && !scope.isEmpty()) {
+                definition.setScope(scope);
+            }
 
-            // Charger la classe
-            try {
-                definition.setBeanClass(Class.forName(beanClassName));
-            } catch (ClassNotFoundException e) {
-                throw new BeanDefinitionException("Classe non trouvée: " + beanClassName, e);
+            // La classe n'est pas chargée ici : voir ClassResolver (premier getBean ou refresh)
+        }
+
+        void element(String element, XMLStreamReader reader) {
+            switch (element) {
+                case "constructor":
+                    constructor = true;
+                    definition.setInjectionMode(InjectionMode.CONSTRUCTOR);
+                    break;
+                case "arg":
+                    if (!constructor) {
+                        break;
+                    }
+                    definition.addConstructorArg(reader.getAttributeValue(null, "value"),
+                            reader.getAttributeValue(null, "ref"), reader.getAttributeValue(null, "type"));
+                    break;
+                case "property":
+                    if (properties == null) {
+                        properties = new ArrayList<>();
+                    }
+                    properties.add(new String[] {
+                        reader.getAttributeValue(null, "name"),
+                        reader.getAttributeValue(null, "value"),
+                        reader.getAttributeValue(null, "ref")
+                    });
+                    break;
+                default:
+                    // Élément inconnu : ignoré, comme avec JAXB
             }
+        }
 
-            // Traiter les paramètres du constructeur
-            if (bean.getConstructor() != null) {
-                definition.setInjectionMode(InjectionMode.CONSTRUCTOR);
-                for (ConstructorArg arg : bean.getConstructor().getArgs()) {
-                    String value = arg.getValue();
-                    String ref = arg.getRef();
-                    Class<?> type = arg.getType() != null ? resolveType(arg.getType()) : null;
-                    
-                    definition.addConstructorArg(value, ref, type);
-                }
-            } else if (!bean.getProperties().isEmpty()) {
-                // Déterminer le mode d'injection selon le contexte
+        BeanDefinition build() {
+            if (!constructor && properties != null) {
                 // Par défaut: SETTER si les propriétés sont définies
                 definition.setInjectionMode(InjectionMode.SETTER);
-                
-                // Traiter les propriétés
-                for (Property property : bean.getProperties()) {
-                    String propName = property.getName();
-                    String value = property.getValue();
-                    String ref = property.getRef();
-                    
-                    define.addProperty(propName, value, ref, null);
+                for (String[] property : properties) {
+                    definition.addProperty(property[0], property[1], property[2], null);
                 }
             }
-
-            definitions.put(beanId, definition);
-        }
-
-        return definitions;
-    }
-
-    /**
-     * Résout un type à partir de son nom
-     */
-    private static Class<?> resolveType(String typeName) {
-        try {
-            switch (typeName) {
-                case "int":
-                case "java.lang.Integer":
-                    return int.class;
-                case "long":
-                case "java.lang.Long":
-                    return long.class;
-                case "double":
-                case "java.lang.Double":
-                    return double.class;
-                case "float":
-                case "java.lang.Float":
-                    return float.class;
-                case "boolean":
-                case "java.lang.Boolean":
-                    return boolean.class;
-                case "java.lang.String":
-                    return String.class;
-                default:
-                    return Class.forName(typeName);
-            }
-        } catch (ClassNotFoundException e) {
-            throw new BeanDefinitionException("Type non trouvé: " + typeName, e);
+            return definition;
         }
     }
 }
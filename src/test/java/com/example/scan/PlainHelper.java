@@ -0,0 +1,11 @@
+package com.example.scan;
+
+/**
+ * Classe sans @Component : ne doit jamais être chargée par le scan
+ */
+public class PlainHelper {
+
+    public static String help() {
+        return "help";
+    }
+}
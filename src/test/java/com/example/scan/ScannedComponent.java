@@ -0,0 +1,16 @@
+package com.example.scan;
+
+import com.framework.annotations.Component;
+
+/**
+ * Composant découvert par scanComponents
+ */
+@Component("scannedComponent")
+public class ScannedComponent {
+
+    private String name = "scanned";
+
+    public String getName() {
+        return name;
+    }
+}
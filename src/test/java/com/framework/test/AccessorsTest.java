@@ -0,0 +1,73 @@
+package com.framework.test;
+
+import com.framework.utils.Accessors;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour les accès liés (Accessors.bind), avant et après la génération de l'appel direct
+ */
+public class AccessorsTest {
+
+    private static final int CALLS = 100; // Bien au-delà du seuil de génération
+
+    @Test
+    public void testPrivateSetterAndConstructor() throws Exception {
+        Accessors.Instantiator instantiator = Accessors.bind(Counter.class.getDeclaredConstructor());
+        Accessors.Writer setter = Accessors.bind(Counter.class.getDeclaredMethod("setCount", int.class));
+        Accessors.Writer field = Accessors.bind(Counter.class.getDeclaredField("label"));
+
+        for (int i = 0; i < CALLS; i++) {
+            Counter counter = (Counter) instantiator.newInstance(new Object[0]);
+            setter.write(counter, i);
+            field.write(counter, "n" + i);
+            assertEquals(i, counter.count);
+            assertEquals("n" + i, counter.label);
+        }
+    }
+
+    @Test
+    public void testSetterExceptionsAreNotWrapped() throws Exception {
+        Accessors.Writer setter = Accessors.bind(Counter.class.getDeclaredMethod("setChecked", String.class));
+        Counter counter = new Counter();
+        for (int i = 0; i < CALLS; i++) {
+            try {
+                setter.write(counter, "x");
+                fail("Le setter lève toujours une exception");
+            } catch (IOException e) {
+                assertEquals("x", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testConstructorWithArguments() throws Exception {
+        Accessors.Instantiator instantiator = Accessors.bind(Counter.class.getDeclaredConstructor(int.class));
+        for (int i = 0; i < CALLS; i++) {
+            assertEquals(i, ((Counter) instantiator.newInstance(new Object[] { i })).count);
+        }
+    }
+
+    public static class Counter {
+        private int count;
+        private String label;
+
+        private Counter() {
+        }
+
+        Counter(int count) {
+            this.count = count;
+        }
+
+        private void setCount(int count) {
+            this.count = count;
+        }
+
+        public void setChecked(String value) throws IOException {
+            throw new IOException(value);
+        }
+    }
+}
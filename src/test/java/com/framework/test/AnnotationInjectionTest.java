@@ -6,6 +6,7 @@ import com.example.service.UserService;
 import com.framework.container.ApplicationContext;
 import com.framework.container.BeanDefinition;
 import com.framework.container.InjectionMode;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -95,6 +96,37 @@ public class AnnotationInjectionTest {
         assertNotNull("Repository doit être disponible", repo);
     }
 
+    @Test
+    public void testAutowiredResolvedByType() {
+        BeanDefinition repoDef = new BeanDefinition("userRepository", UserRepository.class.getName());
+        repoDef.setBeanClass(UserRepository.class);
+        repoDef.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        repoDef.addConstructorArg("jdbc:h2:mem:bytype", null, String.class);
+        repoDef.addConstructorArg("sa", null, String.class);
+        repoDef.addConstructorArg("", null, String.class);
+        context.registerBeanDefinition(repoDef);
+        context.registerComponent(UserService.class);
+        context.registerComponent(UserController.class);
+
+        // Aucun bean "UserService" / "UserRepository" : les points @Autowired sont résolus par type
+        UserController controller = context.getBean("userController", UserController.class);
+        assertNotNull("Service doit être injecté", controller.getUserService());
+        assertSame("Le service injecté est le singleton", context.getBean("userService"), controller.getUserService());
+        assertNotNull("Repository doit être injecté", controller.getUserService().getUserRepository());
+    }
+
+    @Test
+    public void testTypeLookupCreatesOnlyMatchingBean() {
+        context.registerComponent(UserController.class);
+        context.registerComponent(UserService.class);
+        context.registerSingleton("repository", new UserRepository("jdbc:h2:mem:lookup", "sa", ""));
+
+        UserRepository repo = context.getBean(UserRepository.class);
+        assertNotNull("Repository doit être trouvé par type", repo);
+        assertEquals("Aucun autre bean ne doit être créé", 1, context.getContainer().getAllBeans().size());
+        assertNull("Type inconnu", context.getBean(Runnable.class));
+    }
+
     @After
     public void tearDown() {
         if (context != null) {
@@ -0,0 +1,255 @@
+package com.framework.test;
+
+import com.example.repository.UserRepository;
+import com.example.scan.ScannedComponent;
+import com.example.service.UserService;
+import com.framework.annotations.Component;
+import com.framework.container.ApplicationContext;
+import com.framework.container.ComponentIndex;
+import com.framework.exception.DependencyInjectionException;
+import com.framework.utils.ClassPathScanner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour le scan de composants au niveau du bytecode
+ */
+public class ClassPathScannerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+    }
+
+    @Test
+    public void testScanComponentsRegistersAnnotatedClasses() {
+        context.scanComponents("com.example.scan");
+
+        assertTrue("Composant annoté doit être enregistré", context.containsBean("scannedComponent"));
+        assertFalse("Classe non annotée ignorée", context.containsBean("PlainHelper"));
+        assertEquals("scanned", context.getBean("scannedComponent", ScannedComponent.class).getName());
+    }
+
+    @Test
+    public void testNonMatchingClassesAreNeverLoaded() throws Exception {
+        try (TrackingClassLoader loader = new TrackingClassLoader(new URL[] { testClassesRoot().toUri().toURL() })) {
+            List<String> found = ClassPathScanner.findAnnotatedClasses(loader, "com.example.scan", Component.class);
+
+            assertEquals(1, found.size());
+            assertEquals("com.example.scan.ScannedComponent", found.get(0));
+            assertFalse("Le scan ne charge aucune classe", loader.isLoaded("com.example.scan.ScannedComponent"));
+            assertFalse("Le scan ne charge aucune classe", loader.isLoaded("com.example.scan.PlainHelper"));
+        }
+    }
+
+    @Test
+    public void testScanInsideJar() throws Exception {
+        File jar = folder.newFile("components.jar");
+        Path root = testClassesRoot();
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            // Entrées de répertoires, comme les écrit l'outil jar
+            for (String directory : new String[] { "com/", "com/example/", "com/example/scan/" }) {
+                out.putNextEntry(new JarEntry(directory));
+                out.closeEntry();
+            }
+            for (String name : new String[] { "com/example/scan/ScannedComponent.class", "com/example/scan/PlainHelper.class" }) {
+                out.putNextEntry(new JarEntry(name));
+                out.write(Files.readAllBytes(root.resolve(name)));
+                out.closeEntry();
+            }
+        }
+
+        try (TrackingClassLoader loader = new TrackingClassLoader(new URL[] { jar.toURI().toURL() })) {
+            List<String> found = ClassPathScanner.findAnnotatedClasses(loader, "com.example", Component.class);
+            assertEquals(1, found.size());
+            assertEquals("com.example.scan.ScannedComponent", found.get(0));
+            assertFalse(loader.isLoaded("com.example.scan.PlainHelper"));
+        }
+    }
+
+    @Test
+    public void testGeneratedIndexListsComponentsAndInjectionPoints() {
+        ComponentIndex index = ComponentIndex.load(getClass().getClassLoader());
+        assertNotNull("L'index doit être généré à la compilation", index);
+
+        ComponentIndex.Entry service = null;
+        for (ComponentIndex.Entry entry : index.getComponents("com.example")) {
+            if (entry.getBeanId().equals("userService")) {
+                service = entry;
+            }
+        }
+        assertNotNull(service);
+        assertEquals("com.example.service.UserService", service.getClassName());
+        assertEquals(2, service.getInjectionPoints().size());
+        assertEquals("UserRepository", service.getInjectionPoints().get(0).getBeanId());
+        assertTrue(service.getInjectionPoints().get(0).isField());
+        assertEquals("com.example.repository.UserRepository", service.getInjectionPoints().get(0).getTypeName());
+        assertEquals("setUserRepository", service.getInjectionPoints().get(1).getName());
+    }
+
+    @Test
+    public void testIndexedInjectionPointsReplaceAnnotations() throws Exception {
+        // Le point indexé désigne un autre bean que l'annotation : prouve que l'index est utilisé
+        File root = writeIndex("indexed",
+                "component\tcom.example.service.UserService\tfromIndex\tfalse\tsingleton\t1",
+                "point\tfield\tuserRepository\tcom.example.repository.UserRepository\tindexedRepository\ttrue\tfalse");
+        UserRepository annotated = new UserRepository("jdbc:h2:mem:annotated", "sa", "");
+        UserRepository indexed = new UserRepository("jdbc:h2:mem:indexed", "sa", "");
+        context.registerSingleton("UserRepository", annotated);
+        context.registerSingleton("indexedRepository", indexed);
+
+        withContextClassLoader(new URL[] { root.toURI().toURL() }, () -> context.scanComponents("com.example.service"));
+
+        assertSame(indexed, context.getBean("fromIndex", UserService.class).getUserRepository());
+    }
+
+    @Test
+    public void testStaleIndexFallsBackToAnnotations() throws Exception {
+        // Le field indexé n'existe plus : les annotations de la classe font foi
+        File root = writeIndex("stale",
+                "component\tcom.example.service.UserService\tfromIndex\tfalse\tsingleton\t1",
+                "point\tfield\trenamedRepository\tcom.example.repository.UserRepository\tindexedRepository\ttrue\tfalse");
+        UserRepository annotated = new UserRepository("jdbc:h2:mem:annotated", "sa", "");
+        context.registerSingleton("UserRepository", annotated);
+        context.registerSingleton("indexedRepository", new UserRepository("jdbc:h2:mem:indexed", "sa", ""));
+
+        withContextClassLoader(new URL[] { root.toURI().toURL() }, () -> context.scanComponents("com.example.service"));
+
+        assertSame(annotated, context.getBean("fromIndex", UserService.class).getUserRepository());
+    }
+
+    @Test(expected = DependencyInjectionException.class)
+    public void testIndexWithMissingPointsIsRejected() throws Exception {
+        File root = writeIndex("truncated",
+                "component\tcom.example.service.UserService\tfromIndex\tfalse\tsingleton\t2",
+                "point\tfield\tuserRepository\tcom.example.repository.UserRepository\tUserRepository\ttrue\tfalse");
+
+        withContextClassLoader(new URL[] { root.toURI().toURL() }, () -> context.scanComponents("com.example.service"));
+    }
+
+    @Test
+    public void testUnindexedRootIsScannedNextToIndexedOne() throws Exception {
+        // Une dépendance indexée (sans composant dans ce package) ne doit pas masquer le scan des autres racines
+        File indexed = folder.newFolder("dependency");
+        File indexFile = new File(indexed, ComponentIndex.LOCATION);
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), Collections.singletonList(
+                "component\tcom.example.other.OtherComponent\tother\tfalse"));
+
+        File plain = folder.newFolder("application");
+        Path classes = testClassesRoot();
+        for (String name : new String[] { "com/example/scan/ScannedComponent.class", "com/example/scan/PlainHelper.class" }) {
+            File target = new File(plain, name);
+            target.getParentFile().mkdirs();
+            Files.copy(classes.resolve(name), target.toPath());
+        }
+
+        withContextClassLoader(new URL[] { indexed.toURI().toURL(), plain.toURI().toURL() },
+                () -> context.scanComponents("com.example.scan"));
+
+        assertTrue("La racine sans index doit être scannée", context.containsBean("scannedComponent"));
+        assertFalse(context.containsBean("other"));
+    }
+
+    @Test
+    public void testScanComponentsPrefersIndex() throws Exception {
+        // Index qui enregistre le composant sous un autre ID : prouve que le classpath n'est pas scanné
+        File root = folder.newFolder("indexed");
+        File indexFile = new File(root, ComponentIndex.LOCATION);
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), Collections.singletonList(
+                "component\tcom.example.scan.ScannedComponent\tfromIndex\tfalse"));
+
+        withContextClassLoader(new URL[] { root.toURI().toURL() }, () -> context.scanComponents("com.example.scan"));
+
+        assertTrue(context.containsBean("fromIndex"));
+        assertFalse(context.containsBean("scannedComponent"));
+    }
+
+    @Test
+    public void testIgnoreIndexFallsBackToScan() {
+        System.setProperty(ComponentIndex.IGNORE_PROPERTY, "true");
+        try {
+            context.scanComponents("com.example.scan");
+        } finally {
+            System.clearProperty(ComponentIndex.IGNORE_PROPERTY);
+        }
+        assertTrue(context.containsBean("scannedComponent"));
+    }
+
+    private File writeIndex(String name, String... lines) throws Exception {
+        File root = folder.newFolder(name);
+        File indexFile = new File(root, ComponentIndex.LOCATION);
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), Arrays.asList(lines));
+        return root;
+    }
+
+    /**
+     * Exécute l'action avec un class loader dont les ressources viennent des seules URLs
+     * données (les classes restent chargées par le class loader des tests)
+     */
+    private static void withContextClassLoader(URL[] urls, Runnable action) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(urls, null) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                return previous.loadClass(name);
+            }
+        }) {
+            thread.setContextClassLoader(loader);
+            action.run();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static Path testClassesRoot() throws Exception {
+        return Paths.get(ScannedComponent.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    @After
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Class loader isolé qui permet de vérifier quelles classes ont été chargées
+     */
+    private static class TrackingClassLoader extends URLClassLoader {
+
+        TrackingClassLoader(URL[] urls) {
+            super(urls, ClassLoader.getPlatformClassLoader());
+        }
+
+        boolean isLoaded(String className) {
+            return findLoadedClass(className) != null;
+        }
+    }
+}
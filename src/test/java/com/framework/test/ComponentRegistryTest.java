@@ -0,0 +1,165 @@
+package com.framework.test;
+
+import com.example.repository.UserRepository;
+import com.example.service.UserService;
+import com.framework.annotations.Autowired;
+import com.framework.annotations.Component;
+import com.framework.annotations.Qualifier;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour le registre de composants généré par le ComponentProcessor
+ */
+public class ComponentRegistryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+        context.loadComponentRegistries();
+    }
+
+    @Test
+    public void testGeneratedRegistryRegistersComponents() {
+        assertTrue("Service doit être enregistré", context.containsBean("userService"));
+        assertTrue("Controller doit être enregistré", context.containsBean("userController"));
+        assertTrue("Composant de test doit être enregistré", context.containsBean("auditTrail"));
+    }
+
+    @Test
+    public void testGeneratedFactoryInjectsPublicSetter() {
+        registerRepository("mainRepository");
+
+        AuditTrail trail = context.getBean("auditTrail", AuditTrail.class);
+        assertNotNull("AuditTrail doit être créé", trail);
+        assertNotNull("Repository doit être injecté par le code généré", trail.getRepository());
+        assertSame("Singleton attendu", trail, context.getBean("auditTrail"));
+        assertEquals("La fabrique générée compte comme une injection", 1,
+                context.getMetrics().getInjectionLatency().getCount());
+    }
+
+    @Test
+    public void testReflectiveFallbackForPrivateFields() {
+        registerRepository("UserRepository");
+
+        UserService service = context.getBean("userService", UserService.class);
+        assertNotNull("Service doit être créé", service);
+        assertNotNull("Repository doit être injecté", service.getUserRepository());
+    }
+
+    @Test
+    public void testRegistryNamedAfterCommonPackage() throws IOException {
+        File output = folder.newFolder("classes");
+        compile(output, source("com.acme.orders", "OrderService"), source("com.acme.billing", "Invoicer"));
+
+        assertEquals("com.acme.GeneratedComponentRegistry", readLines(output, SERVICE).get(0));
+    }
+
+    @Test
+    public void testIncrementalCompilationKeepsPreviousComponents() throws IOException {
+        File output = folder.newFolder("classes");
+        compile(output, source("com.acme", "First"), source("com.acme", "Second"));
+        // Compilation incrémentale : seul Second est recompilé, First est lu depuis les classes
+        compile(output, source("com.acme", "Second"));
+
+        String index = String.join("\n", readLines(output, "META-INF/com.framework.components"));
+        assertTrue(index.contains("com.acme.First\tfirst"));
+        assertTrue(index.contains("com.acme.Second\tsecond"));
+        assertEquals(1, readLines(output, SERVICE).size());
+    }
+
+    private static final String SERVICE = "META-INF/services/com.framework.container.ComponentRegistry";
+
+    private File source(String packageName, String simpleName) throws IOException {
+        File dir = new File(folder.getRoot(), "src/" + packageName.replace('.', '/'));
+        dir.mkdirs();
+        File file = new File(dir, simpleName + ".java");
+        String id = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+        Files.write(file.toPath(), ("package " + packageName + ";\n"
+                + "@com.framework.annotations.Component(\"" + id + "\")\n"
+                + "public class " + simpleName + " {\n}\n").getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private void compile(File output, File... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        File generated = new File(folder.getRoot(), "generated");
+        generated.mkdirs();
+        String[] args = new String[10 + sources.length];
+        int i = 0;
+        args[i++] = "-classpath";
+        args[i++] = System.getProperty("java.class.path") + File.pathSeparator + output;
+        args[i++] = "-d";
+        args[i++] = output.getPath();
+        args[i++] = "-s";
+        args[i++] = generated.getPath();
+        args[i++] = "-processor";
+        args[i++] = "com.framework.processor.ComponentProcessor";
+        args[i++] = "-implicit:none";
+        args[i++] = "-Xlint:-options";
+        for (File source : sources) {
+            args[i++] = source.getPath();
+        }
+        assertEquals("Échec de compilation", 0, compiler.run(null, null, null, args));
+    }
+
+    private static List<String> readLines(File output, String resource) throws IOException {
+        return Files.readAllLines(new File(output, resource).toPath(), StandardCharsets.UTF_8);
+    }
+
+    private void registerRepository(String beanId) {
+        BeanDefinition repoDef = new BeanDefinition(beanId, UserRepository.class.getName());
+        repoDef.setBeanClass(UserRepository.class);
+        repoDef.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        repoDef.addConstructorArg("jdbc:h2:mem:registry", null, String.class);
+        repoDef.addConstructorArg("sa", null, String.class);
+        repoDef.addConstructorArg("", null, String.class);
+        context.registerBeanDefinition(repoDef);
+    }
+
+    @After
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Composant entièrement accessible : câblé sans réflexion par le registre généré
+     */
+    @Component("auditTrail")
+    public static class AuditTrail {
+
+        private UserRepository repository;
+
+        @Autowired
+        public void setRepository(@Qualifier("mainRepository") UserRepository repository) {
+            this.repository = repository;
+        }
+
+        public UserRepository getRepository() {
+            return repository;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.framework.test;
+
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de charge : création concurrente des singletons
+ */
+public class ConcurrentSingletonTest {
+
+    private static final int THREADS = 16;
+    private static final int LOOKUPS_PER_THREAD = 20_000;
+
+    private ApplicationContext context;
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        SlowRepository.CONSTRUCTIONS.set(0);
+        SlowService.CONSTRUCTIONS.set(0);
+
+        context = new ApplicationContext();
+
+        BeanDefinition repoDef = new BeanDefinition("slowRepository", SlowRepository.class.getName());
+        repoDef.setBeanClass(SlowRepository.class);
+
+        BeanDefinition serviceDef = new BeanDefinition("slowService", SlowService.class.getName());
+        serviceDef.setBeanClass(SlowService.class);
+        serviceDef.setInjectionMode(InjectionMode.SETTER);
+        serviceDef.addProperty("repository", null, "slowRepository", SlowRepository.class);
+
+        context.registerBeanDefinition(repoDef);
+        context.registerBeanDefinition(serviceDef);
+
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @Test
+    public void testSingletonCreatedOnceUnderContention() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object[]>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            // La moitié des threads demande le service (qui dépend du repository), l'autre le repository
+            boolean service = t % 2 == 0;
+            results.add(executor.submit(() -> {
+                start.await();
+                Object bean = context.getBean(service ? "slowService" : "slowRepository");
+                Object repository = service ? ((SlowService) bean).getRepository() : bean;
+                return new Object[] { bean, repository };
+            }));
+        }
+        start.countDown();
+
+        Set<Object> services = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Object> repositories = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int t = 0; t < THREADS; t++) {
+            // Aucune fausse dépendance circulaire : get() relancerait l'exception
+            Object[] beans = results.get(t).get(30, TimeUnit.SECONDS);
+            if (t % 2 == 0) {
+                services.add(beans[0]);
+            }
+            repositories.add(beans[1]);
+        }
+
+        assertEquals("Le repository ne doit être construit qu'une fois", 1, SlowRepository.CONSTRUCTIONS.get());
+        assertEquals("Le service ne doit être construit qu'une fois", 1, SlowService.CONSTRUCTIONS.get());
+        assertEquals("Tous les threads voient le même service", 1, services.size());
+        assertEquals("Tous les threads voient le même repository", 1, repositories.size());
+    }
+
+    @Test
+    public void testConcurrentLookupsSeeSingleInstance() throws Exception {
+        Object service = context.getBean("slowService");
+        Object repository = context.getBean("slowRepository");
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+                    Object bean = context.getBean(i % 2 == 0 ? "slowService" : "slowRepository");
+                    if (bean != (i % 2 == 0 ? service : repository)) {
+                        throw new IllegalStateException("Instance différente pour le lookup " + i);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, SlowService.CONSTRUCTIONS.get());
+        assertEquals(1, SlowRepository.CONSTRUCTIONS.get());
+    }
+
+    @Test
+    public void testRefreshCreatesIndependentSingletonsInParallel() throws Exception {
+        int repositories = 8;
+        ParallelRepository.ALL_STARTED = new CountDownLatch(repositories);
+        ParallelRepository.TIMED_OUT.set(0);
+        for (int i = 0; i < repositories; i++) {
+            context.registerBeanDefinition(new BeanDefinition("parallelRepository" + i, ParallelRepository.class.getName()));
+        }
+        context.setStartupExecutor(executor);
+
+        context.refresh();
+
+        // Chaque constructeur attend que les 8 soient en cours : en séquentiel, le premier expire
+        assertEquals("Les singletons indépendants doivent être créés en parallèle",
+                0, ParallelRepository.TIMED_OUT.get());
+        assertEquals(1, SlowService.CONSTRUCTIONS.get());
+        SlowService service = (SlowService) context.getBean("slowService");
+        assertSame(context.getBean("slowRepository"), service.getRepository());
+    }
+
+    @Test
+    public void testTypeLookupAfterRefresh() {
+        // Classe chargée en lot par le refresh, pas par setBeanClass
+        context.registerBeanDefinition(new BeanDefinition("unloadedService", SlowService.class.getName()));
+        context.setStartupExecutor(executor);
+        context.refresh();
+
+        assertEquals(Arrays.asList("slowService", "unloadedService"),
+                context.getContainer().getBeanIdsForType(SlowService.class));
+    }
+
+    @Test
+    public void testCircularDependencyAcrossThreadsDoesNotDeadlock() throws Exception {
+        Node.BOTH_CONSTRUCTED = new CountDownLatch(2);
+        context.registerBeanDefinition(node("nodeA", "nodeB"));
+        context.registerBeanDefinition(node("nodeB", "nodeA"));
+
+        // Chaque thread détient le verrou de son bean quand il demande l'autre
+        Future<Object> first = executor.submit(() -> context.getBean("nodeA"));
+        Future<Object> second = executor.submit(() -> context.getBean("nodeB"));
+
+        for (Future<Object> future : Arrays.asList(first, second)) {
+            try {
+                future.get(10, TimeUnit.SECONDS); // TimeoutException en cas d'interblocage
+                fail("Le cycle nodeA <-> nodeB doit être signalé");
+            } catch (ExecutionException e) {
+                assertTrue(messages(e.getCause()).contains("Dépendance circulaire détectée"));
+            }
+        }
+    }
+
+    private static BeanDefinition node(String id, String next) {
+        BeanDefinition definition = new BeanDefinition(id, Node.class.getName());
+        definition.setInjectionMode(InjectionMode.SETTER);
+        definition.addProperty("next", null, next, null);
+        return definition;
+    }
+
+    private static String messages(Throwable error) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            messages.append(t.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Bean au constructeur lent pour élargir la fenêtre de concurrence
+     */
+    public static class SlowRepository {
+        static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+        public SlowRepository() throws InterruptedException {
+            CONSTRUCTIONS.incrementAndGet();
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Les deux premières constructions s'attendent : chaque thread détient alors son verrou
+     */
+    public static class Node {
+        static volatile CountDownLatch BOTH_CONSTRUCTED = new CountDownLatch(0);
+
+        public Node() throws InterruptedException {
+            BOTH_CONSTRUCTED.countDown();
+            BOTH_CONSTRUCTED.await(5, TimeUnit.SECONDS);
+        }
+
+        public void setNext(Node next) {
+        }
+    }
+
+    /**
+     * Bean dont le constructeur ne se termine qu'une fois tous ses semblables en construction
+     */
+    public static class ParallelRepository {
+        static volatile CountDownLatch ALL_STARTED = new CountDownLatch(0);
+        static final AtomicInteger TIMED_OUT = new AtomicInteger();
+
+        public ParallelRepository() throws InterruptedException {
+            ALL_STARTED.countDown();
+            if (!ALL_STARTED.await(5, TimeUnit.SECONDS)) {
+                TIMED_OUT.incrementAndGet();
+            }
+        }
+    }
+
+    public static class SlowService {
+        static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+        private SlowRepository repository;
+
+        public SlowService() throws InterruptedException {
+            CONSTRUCTIONS.incrementAndGet();
+            Thread.sleep(20);
+        }
+
+        public void setRepository(SlowRepository repository) {
+            this.repository = repository;
+        }
+
+        public SlowRepository getRepository() {
+            return repository;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.framework.test;
+
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import com.framework.exception.BeanDefinitionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour le choix du constructeur par score (type exact, boxing, sous-type, null)
+ */
+public class ConstructorResolutionTest {
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+        context.registerBeanDefinition(new BeanDefinition("engine", Turbo.class.getName()));
+    }
+
+    @Test
+    public void testExactTypePreferredOverBoxingAndSupertype() {
+        register("exact", Overloaded.class, "42", Integer.class);
+        register("boxed", Overloaded.class, "42", Long.class);
+        register("text", Overloaded.class, "42", String.class);
+
+        assertEquals("Integer", ((Overloaded) context.getBean("exact")).chosen);
+        assertEquals("long", ((Overloaded) context.getBean("boxed")).chosen);
+        assertEquals("CharSequence", ((Overloaded) context.getBean("text")).chosen);
+    }
+
+    @Test
+    public void testMostSpecificReferenceType() {
+        BeanDefinition car = new BeanDefinition("car", Car.class.getName());
+        car.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        car.addConstructorArg(null, "engine", (Class<?>) null);
+        context.registerBeanDefinition(car);
+
+        assertEquals("Turbo", ((Car) context.getBean("car")).chosen);
+    }
+
+    @Test
+    public void testNullValueSkipsPrimitiveParameter() {
+        BeanDefinition holder = new BeanDefinition("holder", Overloaded.class.getName());
+        holder.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        holder.addConstructorArg(null, null, (Class<?>) null);
+        holder.addConstructorArg(null, null, (Class<?>) null);
+        context.registerBeanDefinition(holder);
+
+        assertEquals("Integer,CharSequence", ((Overloaded) context.getBean("holder")).chosen);
+    }
+
+    @Test
+    public void testProblemsReportedTogetherAtRefresh() {
+        register("ambiguous", Ambiguous.class, "x", String.class);
+        register("missing", Turbo.class, "x", String.class);
+
+        try {
+            context.refresh();
+            fail("Un constructeur ambigu ou absent doit être signalé au refresh");
+        } catch (BeanDefinitionException e) {
+            assertTrue(e.getMessage().contains("2 problème(s)"));
+            assertTrue(e.getMessage().contains("Constructeurs ambigus pour le bean: ambiguous"));
+            assertTrue(e.getMessage().contains("Aucun constructeur compatible pour le bean: missing"));
+        }
+    }
+
+    private void register(String id, Class<?> beanClass, String value, Class<?> type) {
+        BeanDefinition definition = new BeanDefinition(id, beanClass.getName());
+        definition.setSingleton(false);
+        definition.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        definition.addConstructorArg(value, null, type);
+        context.registerBeanDefinition(definition);
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    public static class Overloaded {
+        final String chosen;
+
+        public Overloaded(CharSequence value) {
+            chosen = "CharSequence";
+        }
+
+        public Overloaded(Object value) {
+            chosen = "Object";
+        }
+
+        public Overloaded(long value) {
+            chosen = "long";
+        }
+
+        public Overloaded(Integer value) {
+            chosen = "Integer";
+        }
+
+        public Overloaded(int first, CharSequence second) {
+            chosen = "int,CharSequence";
+        }
+
+        public Overloaded(Integer first, CharSequence second) {
+            chosen = "Integer,CharSequence";
+        }
+    }
+
+    public interface Engine {
+    }
+
+    public static class Turbo implements Engine {
+    }
+
+    public static class Car {
+        final String chosen;
+
+        public Car(Object engine) {
+            chosen = "Object";
+        }
+
+        public Car(Engine engine) {
+            chosen = "Engine";
+        }
+
+        public Car(Turbo engine) {
+            chosen = "Turbo";
+        }
+    }
+
+    public static class Ambiguous {
+        public Ambiguous(CharSequence value) {
+        }
+
+        public Ambiguous(Comparable<String> value) {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.framework.test;
+
+import com.example.model.User;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.ContainerMetrics;
+import com.framework.container.InjectionMode;
+import com.framework.container.LatencyHistogram;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour les métriques du container
+ */
+public class ContainerMetricsTest {
+
+    private ApplicationContext context;
+    private ContainerMetrics metrics;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+
+        BeanDefinition admin = new BeanDefinition("admin", User.class.getName());
+        admin.setInjectionMode(InjectionMode.SETTER);
+        admin.addProperty("name", "Admin", null, null);
+        context.registerBeanDefinition(admin);
+
+        BeanDefinition guest = new BeanDefinition("guest", User.class.getName());
+        guest.setSingleton(false);
+        context.registerBeanDefinition(guest);
+
+        context.registerBeanDefinition(new BeanDefinition("clock", Clock.class.getName()));
+
+        metrics = context.getMetrics();
+    }
+
+    @Test
+    public void testLookupsAndSingletonCache() {
+        for (int i = 0; i < 5; i++) {
+            context.getBean("admin");
+        }
+        context.getBean("missing");
+
+        assertEquals(5, metrics.getLookups("admin"));
+        assertEquals(1, metrics.getSingletonMisses());
+        assertEquals(4, metrics.getSingletonHits());
+        assertEquals(1, metrics.getMissingLookups());
+        assertEquals(1, metrics.getCreations("admin"));
+        assertFalse(metrics.getLookupsById().containsKey("missing"));
+    }
+
+    @Test
+    public void testPrototypeCreationsAndTypeFallback() {
+        for (int i = 0; i < 3; i++) {
+            context.getBean("guest");
+        }
+        context.getBean(Clock.class); // Pas d'ID "Clock" : recherche dans l'index des types
+
+        assertEquals(3, metrics.getCreations("guest"));
+        assertEquals(3, metrics.getPrototypeCreations());
+        assertTrue(metrics.getPrototypeCreationRate() > 0);
+        assertEquals(Long.valueOf(1), metrics.getLookupsByType().get(Clock.class.getName()));
+        assertEquals(1, metrics.getTypeFallbacks());
+        assertEquals("Un getBean(type) n'est compté que par type", 0, metrics.getLookups("clock"));
+
+        LatencyHistogram creation = metrics.getCreationLatency();
+        assertEquals(4, creation.getCount());
+        assertTrue(creation.getPercentileNanos(50) <= creation.getMaxNanos());
+        // clock par BeanInjector, guest par sa fabrique compilée (construction et injection fusionnées)
+        assertEquals(4, metrics.getInjectionLatency().getCount());
+
+        metrics.reset();
+        assertEquals(0, metrics.getPrototypeCreations());
+        assertEquals(0, creation.getCount());
+    }
+
+    @Test
+    public void testConcurrentRecordingLosesNothing() throws Exception {
+        int threads = 8;
+        int lookups = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < lookups; i++) {
+                        context.getBean(i % 10 == 0 ? "guest" : "admin");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * lookups * 9 / 10, metrics.getLookups("admin"));
+        assertEquals(threads * lookups / 10, metrics.getCreations("guest"));
+        assertEquals(metrics.getLookups("admin"), metrics.getSingletonHits() + metrics.getSingletonMisses());
+        assertEquals(1, metrics.getCreations("admin"));
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    public static class Clock {
+    }
+}
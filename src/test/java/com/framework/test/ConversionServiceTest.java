@@ -0,0 +1,168 @@
+package com.framework.test;
+
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import com.framework.exception.BeanDefinitionException;
+import com.framework.utils.ConversionService;
+import com.framework.utils.ReflectionUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour le service de conversion des valeurs littérales
+ */
+public class ConversionServiceTest {
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+    }
+
+    @Test
+    public void testBuiltInConverters() {
+        ConversionService conversions = new ConversionService();
+
+        assertEquals(TimeUnit.SECONDS, conversions.convert("seconds", TimeUnit.class));
+        assertEquals(Duration.ofSeconds(30), conversions.convert("30s", Duration.class));
+        assertEquals(Duration.ofMinutes(2), conversions.convert("PT2M", Duration.class));
+        assertEquals(Duration.ofMillis(250), conversions.convert("250", Duration.class));
+        assertArrayEquals(new int[] {1, 2, 3}, (int[]) conversions.convert("1, 2, 3", int[].class));
+        assertEquals('x', conversions.convert("x", char.class));
+        assertSame(conversions.converterFor(Duration.class), conversions.converterFor(Duration.class));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testConvertValueUsesContainerConverters() {
+        context.registerConverter(Point.class, value -> new Point(value.length()));
+        ConversionService conversions = context.getContainer().getConversionService();
+
+        assertEquals(3, ((Point) ReflectionUtils.convertValue("abc", Point.class, conversions)).size);
+        assertEquals(42, ReflectionUtils.convertValue("42", int.class));
+        // Type sans convertisseur : valeur brute, comme à l'origine
+        assertEquals("abc", ReflectionUtils.convertValue("abc", Point.class));
+        assertFalse(conversions.canConvert(Runnable.class));
+    }
+
+    @Test
+    public void testPropertiesConvertedOnceWithGenericType() {
+        BeanDefinition settings = new BeanDefinition("settings", Settings.class.getName());
+        settings.setSingleton(false);
+        settings.setInjectionMode(InjectionMode.SETTER);
+        settings.addProperty("timeout", "5s", null, null);
+        settings.addProperty("ports", "8080,8081", null, null);
+        settings.addProperty("unit", "MILLISECONDS", null, null);
+        context.registerBeanDefinition(settings);
+
+        Settings first = (Settings) context.getBean("settings");
+        Settings second = (Settings) context.getBean("settings");
+
+        assertEquals(Duration.ofSeconds(5), first.timeout);
+        assertEquals(Arrays.asList(8080, 8081), first.ports);
+        assertEquals(TimeUnit.MILLISECONDS, first.unit);
+        assertTrue(settings.isConverted());
+        assertSame(first.timeout, second.timeout); // Valeur convertie une seule fois
+    }
+
+    @Test
+    public void testCustomConverter() {
+        context.registerConverter(Endpoint.class, Endpoint::parse);
+
+        BeanDefinition client = new BeanDefinition("client", Client.class.getName());
+        client.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        client.addConstructorArg("localhost:9000", null, Endpoint.class);
+        context.registerBeanDefinition(client);
+        context.refresh();
+
+        Endpoint endpoint = ((Client) context.getBean("client")).endpoint;
+        assertEquals("localhost", endpoint.host);
+        assertEquals(9000, endpoint.port);
+    }
+
+    @Test
+    public void testInvalidValuesReportedTogetherAtRefresh() {
+        BeanDefinition first = new BeanDefinition("first", Settings.class.getName());
+        first.setInjectionMode(InjectionMode.SETTER);
+        first.addProperty("timeout", "bientôt", null, null);
+        context.registerBeanDefinition(first);
+
+        BeanDefinition second = new BeanDefinition("second", Settings.class.getName());
+        second.setInjectionMode(InjectionMode.SETTER);
+        second.addProperty("unit", "FORTNIGHTS", null, null);
+        context.registerBeanDefinition(second);
+
+        try {
+            context.refresh();
+            fail("Les valeurs invalides doivent être signalées au démarrage");
+        } catch (BeanDefinitionException e) {
+            assertTrue(e.getMessage().contains("2 problème(s)"));
+            assertTrue(e.getMessage().contains("first"));
+            assertTrue(e.getMessage().contains("second"));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    public static class Settings {
+        Duration timeout;
+        List<Integer> ports;
+        TimeUnit unit;
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public void setPorts(List<Integer> ports) {
+            this.ports = ports;
+        }
+
+        public void setUnit(TimeUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    public static class Endpoint {
+        final String host;
+        final int port;
+
+        Endpoint(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        static Endpoint parse(String value) {
+            int colon = value.lastIndexOf(':');
+            return new Endpoint(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+        }
+    }
+
+    public static class Client {
+        final Endpoint endpoint;
+
+        public Client(Endpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    public static class Point {
+        final int size;
+
+        Point(int size) {
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.framework.test;
+
+import com.example.service.UserService;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import com.framework.xml.DefinitionSnapshot;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour le snapshot binaire des définitions (validation, droits du répertoire, purge)
+ */
+public class DefinitionSnapshotTest {
+
+    private static final String XML = "<beans>"
+            + "<bean id=\"userRepository\" class=\"com.example.repository.UserRepository\" lazy-init=\"true\">"
+            + "<constructor><arg type=\"java.lang.String\" value=\"jdbc:h2:mem:snap\"/>"
+            + "<arg type=\"java.lang.String\" value=\"sa\"/><arg value=\"\"/></constructor></bean>"
+            + "<bean id=\"userService\" class=\"com.example.service.UserService\">"
+            + "<property name=\"userRepository\" ref=\"userRepository\"/>"
+            + "<property name=\"maxAttempts\" value=\"4\"/></bean>"
+            + "</beans>";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File xml;
+    private Path snapshots;
+    private ApplicationContext context;
+
+    @Before
+    public void setup() throws Exception {
+        xml = folder.newFile("beans.xml");
+        Files.write(xml.toPath(), XML.getBytes(StandardCharsets.UTF_8));
+        snapshots = folder.newFolder("snapshots").toPath();
+    }
+
+    @Test
+    public void testSnapshotRoundTrip() throws Exception {
+        Map<String, BeanDefinition> parsed = DefinitionSnapshot.parseXml(xml, snapshots);
+        assertEquals("Un snapshot doit être écrit", 1, snapshotCount());
+
+        Map<String, BeanDefinition> loaded = DefinitionSnapshot.parseXml(xml, snapshots);
+        assertEquals(parsed.keySet(), loaded.keySet());
+        for (String id : parsed.keySet()) {
+            BeanDefinition expected = parsed.get(id);
+            BeanDefinition actual = loaded.get(id);
+            assertEquals(expected.getClassName(), actual.getClassName());
+            assertEquals(expected.getBeanClass(), actual.getBeanClass());
+            assertEquals(expected.getInjectionMode(), actual.getInjectionMode());
+            assertEquals(expected.isLazyInit(), actual.isLazyInit());
+            assertEquals(expected.isSingleton(), actual.isSingleton());
+            assertEquals(expected.getConstructorArgValues(), actual.getConstructorArgValues());
+            assertEquals(expected.getConstructorArgRefs(), actual.getConstructorArgRefs());
+            assertEquals(expected.getConstructorArgTypes(), actual.getConstructorArgTypes());
+            assertEquals(expected.getPropertyValues(), actual.getPropertyValues());
+            assertEquals(expected.getPropertyRefs(), actual.getPropertyRefs());
+        }
+        assertEquals(InjectionMode.SETTER, loaded.get("userService").getInjectionMode());
+    }
+
+    @Test
+    public void testSnapshotRegeneratedWhenXmlChanges() throws Exception {
+        DefinitionSnapshot.parseXml(xml, snapshots);
+        Files.write(xml.toPath(), XML.replace("value=\"4\"", "value=\"9\"").getBytes(StandardCharsets.UTF_8));
+
+        Map<String, BeanDefinition> definitions = DefinitionSnapshot.parseXml(xml, snapshots);
+        assertEquals("9", definitions.get("userService").getPropertyValues().get("maxAttempts"));
+        assertEquals("Un snapshot par fichier XML", 1, snapshotCount());
+    }
+
+    @Test
+    public void testSnapshotCheckedAgainstXmlContent() throws Exception {
+        DefinitionSnapshot.parseXml(xml, snapshots);
+        FileTime modified = Files.getLastModifiedTime(xml.toPath());
+        // Même taille et même date : seul le hash du contenu distingue les deux versions
+        Files.write(xml.toPath(), XML.replace("value=\"4\"", "value=\"7\"").getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(xml.toPath(), modified);
+
+        Map<String, BeanDefinition> definitions = DefinitionSnapshot.parseXml(xml, snapshots);
+        assertEquals("7", definitions.get("userService").getPropertyValues().get("maxAttempts"));
+    }
+
+    @Test
+    public void testSnapshotOfAnotherFileRejected() throws Exception {
+        File other = folder.newFile("other.xml");
+        Files.write(other.toPath(), XML.replace("value=\"4\"", "value=\"5\"").getBytes(StandardCharsets.UTF_8));
+        DefinitionSnapshot.parseXml(other, snapshots);
+        Path forged = onlySnapshot();
+        DefinitionSnapshot.parseXml(xml, snapshots);
+
+        // Le snapshot d'other.xml copié à la place de celui de beans.xml ne doit pas être lu
+        for (Path snapshot : snapshots()) {
+            if (!snapshot.equals(forged)) {
+                Files.copy(forged, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Map<String, BeanDefinition> definitions = DefinitionSnapshot.parseXml(xml, snapshots);
+        assertEquals("4", definitions.get("userService").getPropertyValues().get("maxAttempts"));
+    }
+
+    @Test
+    public void testSnapshotsDisabledByDefault() {
+        assertNull("Aucun répertoire de snapshots sans configuration", DefinitionSnapshot.configuredDirectory());
+    }
+
+    @Test
+    public void testDirectoryCreatedForOwnerOnly() throws Exception {
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path directory = snapshots.resolve("nested/cache");
+
+        DefinitionSnapshot.parseXml(xml, directory);
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(directory));
+    }
+
+    @Test
+    public void testSharedDirectoryIgnored() throws Exception {
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Files.setPosixFilePermissions(snapshots, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        Map<String, BeanDefinition> definitions = DefinitionSnapshot.parseXml(xml, snapshots);
+        assertEquals(2, definitions.size());
+        assertEquals("Aucun snapshot dans un répertoire partagé", 0, snapshotCount());
+    }
+
+    @Test
+    public void testOldSnapshotsPruned() throws Exception {
+        long now = System.currentTimeMillis();
+        Path expired = Files.write(snapshots.resolve("expired.snapshot"), new byte[] { 1 });
+        Files.setLastModifiedTime(expired, FileTime.fromMillis(now - TimeUnit.DAYS.toMillis(DefinitionSnapshot.MAX_AGE_DAYS + 1)));
+        Path unrelated = Files.write(snapshots.resolve("notes.txt"), new byte[] { 1 });
+        Files.setLastModifiedTime(unrelated, FileTime.fromMillis(0));
+        for (int i = 0; i < DefinitionSnapshot.MAX_SNAPSHOTS + 10; i++) {
+            Path snapshot = Files.write(snapshots.resolve("old" + i + ".snapshot"), new byte[] { 1 });
+            Files.setLastModifiedTime(snapshot, FileTime.fromMillis(now - TimeUnit.DAYS.toMillis(1) + i));
+        }
+
+        DefinitionSnapshot.parseXml(xml, snapshots);
+
+        assertFalse(Files.exists(expired));
+        assertTrue("Seuls les snapshots sont purgés", Files.exists(unrelated));
+        assertEquals(DefinitionSnapshot.MAX_SNAPSHOTS, snapshotCount());
+        assertFalse("Les plus anciens sont supprimés en premier", Files.exists(snapshots.resolve("old0.snapshot")));
+        assertEquals(2, DefinitionSnapshot.parseXml(xml, snapshots).size());
+    }
+
+    @Test
+    public void testCorruptedSnapshotFallsBackToXml() throws Exception {
+        DefinitionSnapshot.parseXml(xml, snapshots);
+        Path snapshot = onlySnapshot();
+        Files.write(snapshot, new byte[] { 1, 2, 3 });
+
+        Map<String, BeanDefinition> definitions = DefinitionSnapshot.parseXml(xml, snapshots);
+        assertEquals(2, definitions.size());
+        assertEquals(3, definitions.get("userRepository").getConstructorArgValues().size());
+        assertTrue("Le snapshot doit être réécrit", Files.size(snapshot) > 3);
+    }
+
+    @Test
+    public void testApplicationContextUsesSnapshot() throws Exception {
+        System.setProperty(DefinitionSnapshot.DIRECTORY_PROPERTY, snapshots.toString());
+        try {
+            context = new ApplicationContext(xml.getPath());
+            assertEquals(1, snapshotCount());
+            context.close();
+
+            context = new ApplicationContext(xml.getPath());
+            UserService service = context.getBean("userService", UserService.class);
+            assertEquals(4, service.getMaxAttempts());
+            assertEquals("jdbc:h2:mem:snap", service.getUserRepository().getDbUrl());
+        } finally {
+            System.clearProperty(DefinitionSnapshot.DIRECTORY_PROPERTY);
+        }
+    }
+
+    private long snapshotCount() throws Exception {
+        return snapshots().size();
+    }
+
+    private List<Path> snapshots() throws Exception {
+        try (Stream<Path> files = Files.list(snapshots)) {
+            return files.filter(p -> p.toString().endsWith(".snapshot")).collect(Collectors.toList());
+        }
+    }
+
+    private Path onlySnapshot() throws Exception {
+        List<Path> files = snapshots();
+        assertEquals(1, files.size());
+        return files.get(0);
+    }
+
+    @After
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.framework.test;
+
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import com.framework.xml.XmlParser;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour les événements Java Flight Recorder du container et du parseur XML
+ */
+public class FlightRecorderEventsTest {
+
+    private static final String[] EVENTS = {
+        "com.framework.BeanLookup", "com.framework.BeanCreation", "com.framework.BeanInjection", "com.framework.XmlParse"
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+        BeanDefinition user = new BeanDefinition("user", "com.example.model.User");
+        user.setInjectionMode(InjectionMode.SETTER);
+        user.addProperty("name", "Alice", null, null);
+        context.registerBeanDefinition(user);
+    }
+
+    @Test
+    public void testBeanLifecycleEventsRecorded() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            context.getBean("user");
+            XmlParser.parse(new ByteArrayInputStream(
+                    "<beans><bean id=\"a\" class=\"A\"/><bean id=\"b\" class=\"B\"/></beans>".getBytes(StandardCharsets.UTF_8)),
+                    "inline.xml", definition -> { });
+        });
+
+        RecordedEvent lookup = find(events, "com.framework.BeanLookup");
+        assertEquals("user", lookup.getString("beanId"));
+        assertEquals("com.example.model.User", lookup.getClass("beanClass").getName());
+        assertEquals(BeanDefinition.SCOPE_SINGLETON, lookup.getString("scope"));
+        assertEquals("SETTER", lookup.getString("injectionMode"));
+        assertTrue(lookup.getBoolean("found"));
+
+        RecordedEvent creation = find(events, "com.framework.BeanCreation");
+        RecordedEvent injection = find(events, "com.framework.BeanInjection");
+        assertEquals("user", creation.getString("beanId"));
+        assertEquals("user", injection.getString("beanId"));
+        assertFalse(creation.getDuration().compareTo(injection.getDuration()) < 0);
+        assertFalse(lookup.getDuration().compareTo(creation.getDuration()) < 0);
+
+        RecordedEvent parse = find(events, "com.framework.XmlParse");
+        assertEquals("inline.xml", parse.getString("source"));
+        assertEquals(2, parse.getInt("beanCount"));
+    }
+
+    @Test
+    public void testLookupEventDisabledByDefault() throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.start(); // Réglages par défaut des événements
+            context.getBean("user");
+            recording.stop();
+            Path file = folder.newFile("defaults.jfr").toPath();
+            recording.dump(file);
+
+            List<String> names = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                names.add(event.getEventType().getName());
+            }
+            assertFalse(names.contains("com.framework.BeanLookup"));
+            assertTrue(names.contains("com.framework.BeanCreation"));
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            Path file = folder.newFile("events.jfr").toPath();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                matching.add(event);
+            }
+        }
+        assertEquals("Un événement " + name + " attendu", 1, matching.size());
+        return matching.get(0);
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+}
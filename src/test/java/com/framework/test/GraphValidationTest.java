@@ -0,0 +1,125 @@
+package com.framework.test;
+
+import com.framework.annotations.Autowired;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import com.framework.exception.BeanDefinitionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour la validation statique du graphe de dépendances au refresh
+ */
+public class GraphValidationTest {
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        Node.CREATED.set(0);
+        context = new ApplicationContext();
+    }
+
+    @Test
+    public void testAllProblemsReportedWithoutInstantiation() {
+        context.registerBeanDefinition(node("a", "b"));
+        context.registerBeanDefinition(node("b", "c"));
+        context.registerBeanDefinition(node("c", "a"));
+        context.registerBeanDefinition(node("self", "self"));
+        context.registerBeanDefinition(node("dangling", "nowhere"));
+        context.registerBeanDefinition(new BeanDefinition("orphan", Orphan.class.getName()));
+        context.registerBeanDefinition(new BeanDefinition("ghost", "com.example.Missing"));
+        context.registerBeanDefinition(node("fine", null));
+
+        List<String> problems = context.validate();
+
+        assertEquals(Arrays.asList(
+                "Classe non trouvée: com.example.Missing (bean: ghost)",
+                "Bean 'dangling' : référence inconnue 'nowhere' (propriété 'next')",
+                "Bean 'orphan' : aucun bean pour @Autowired 'service' (type " + Service.class.getName() + ")",
+                "Dépendance circulaire : a -> b -> c -> a",
+                "Dépendance circulaire : self -> self"), problems);
+        assertEquals(0, Node.CREATED.get());
+
+        try {
+            context.refresh();
+            fail("La configuration invalide doit être refusée au refresh");
+        } catch (BeanDefinitionException e) {
+            assertTrue(e.getMessage().startsWith("Configuration invalide (5 problème(s)):"));
+        }
+        assertEquals("Aucun bean ne doit être créé", 0, Node.CREATED.get());
+    }
+
+    @Test
+    public void testValidConfigurationPasses() {
+        context.registerBeanDefinition(node("first", "second"));
+        context.registerBeanDefinition(node("second", null));
+        context.registerSingleton("external", new Object());
+        context.registerBeanDefinition(node("third", "external"));
+
+        assertTrue(context.validate().isEmpty());
+        context.refresh();
+        assertEquals(3, Node.CREATED.get());
+    }
+
+    @Test
+    public void testLargeGraphValidatedIteratively() {
+        int size = 20_000;
+        for (int i = 0; i < size; i++) {
+            context.registerBeanDefinition(node("n" + i, i + 1 < size ? "n" + (i + 1) : "n0"));
+        }
+
+        long begin = System.nanoTime();
+        List<String> problems = context.validate();
+        long elapsedMs = (System.nanoTime() - begin) / 1_000_000;
+
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).startsWith("Dépendance circulaire : n0 -> n1 -> "));
+        assertTrue(problems.get(0).endsWith(" -> n" + (size - 1) + " -> n0"));
+        assertTrue("Validation trop lente: " + elapsedMs + " ms", elapsedMs < 5_000);
+    }
+
+    private static BeanDefinition node(String id, String next) {
+        BeanDefinition definition = new BeanDefinition(id, Node.class.getName());
+        definition.setInjectionMode(InjectionMode.SETTER);
+        if (next != null) {
+            definition.addProperty("next", null, next, null);
+        }
+        return definition;
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    public static class Node {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        private Object next;
+
+        public Node() {
+            CREATED.incrementAndGet();
+        }
+
+        public void setNext(Object next) {
+            this.next = next;
+        }
+    }
+
+    public interface Service {
+    }
+
+    public static class Orphan {
+        @Autowired
+        private Service service;
+    }
+}
@@ -0,0 +1,204 @@
+package com.framework.test;
+
+import com.example.repository.UserRepository;
+import com.example.service.UserService;
+import com.framework.container.ApplicationContext;
+import com.framework.exception.BeanDefinitionException;
+import com.framework.exception.DependencyInjectionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour le rechargement à chaud de la configuration XML
+ */
+public class HotReloadTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ApplicationContext context;
+    private File config;
+    private File repositories;
+
+    @Before
+    public void setup() throws Exception {
+        repositories = new File(folder.getRoot(), "repositories.xml");
+        writeRepositories("jdbc:h2:mem:a");
+        config = new File(folder.getRoot(), "beans.xml");
+        write(config, "<beans><import resource=\"repositories.xml\"/>"
+                + service("serviceA", "repoA") + service("serviceB", "repoB") + "</beans>");
+
+        context = new ApplicationContext(config.getPath());
+        context.refresh();
+    }
+
+    @Test
+    public void testOnlyChangedBeansAndDependentsRebuilt() throws Exception {
+        UserRepository repoA = context.getBean("repoA", UserRepository.class);
+        UserService serviceA = context.getBean("serviceA", UserService.class);
+        UserRepository repoB = context.getBean("repoB", UserRepository.class);
+        UserService serviceB = context.getBean("serviceB", UserService.class);
+
+        writeRepositories("jdbc:h2:mem:changed");
+        List<String> invalidated = context.reload();
+
+        assertEquals(Arrays.asList("repoA", "serviceA"), invalidated);
+        UserRepository newRepoA = context.getBean("repoA", UserRepository.class);
+        assertNotSame(repoA, newRepoA);
+        assertEquals("jdbc:h2:mem:changed", newRepoA.getDbUrl());
+        assertSame(newRepoA, context.getBean("serviceA", UserService.class).getUserRepository());
+        assertNotSame(serviceA, context.getBean("serviceA", UserService.class));
+
+        assertSame(repoB, context.getBean("repoB"));
+        assertSame(serviceB, context.getBean("serviceB"));
+    }
+
+    @Test
+    public void testUnchangedFilesNothingRebuilt() {
+        Object service = context.getBean("serviceA");
+        assertTrue(context.reload().isEmpty());
+        assertSame(service, context.getBean("serviceA"));
+    }
+
+    @Test
+    public void testAddedAndRemovedBeans() throws Exception {
+        Object repoA = context.getBean("repoA");
+        write(config, "<beans><import resource=\"repositories.xml\"/>" + service("serviceA", "repoA")
+                + "<bean id=\"user\" class=\"com.example.model.User\"/></beans>");
+
+        List<String> invalidated = context.reload();
+
+        assertEquals(Arrays.asList("user"), invalidated);
+        assertFalse(context.containsBean("serviceB"));
+        assertNull(context.getBean("serviceB"));
+        assertNotNull(context.getBean("user"));
+        assertSame(repoA, context.getBean("repoA"));
+    }
+
+    @Test
+    public void testInvalidConfigurationKeepsCurrentBeans() throws Exception {
+        Object serviceA = context.getBean("serviceA");
+        write(config, "<beans><import resource=\"repositories.xml\"/>"
+                + "<bean id=\"serviceA\" class=\"com.example.Missing\"/>" + service("serviceB", "repoB") + "</beans>");
+        try {
+            context.reload();
+            fail("Une classe introuvable doit être signalée");
+        } catch (RuntimeException e) {
+            // attendu
+        }
+        assertSame(serviceA, context.getBean("serviceA"));
+
+        write(config, "<beans><import resource=\"repositories.xml\"/>"
+                + service("serviceA", "repoA") + service("serviceB", "repoB") + "</beans>");
+        assertTrue(context.reload().isEmpty());
+    }
+
+    @Test
+    public void testIncompatibleConstructorRejectedBeforeChanges() throws Exception {
+        UserService serviceA = context.getBean("serviceA", UserService.class);
+        Object repoA = context.getBean("repoA");
+        write(repositories, "<beans><bean id=\"repoA\" class=\"com.example.repository.UserRepository\">"
+                + "<constructor><arg type=\"java.lang.Integer\" value=\"8\"/></constructor></bean>"
+                + repository("repoB", "jdbc:h2:mem:b") + "</beans>");
+        write(config, "<beans><import resource=\"repositories.xml\"/>"
+                + service("serviceA", "repoA") + service("serviceB", "missing") + "</beans>");
+        try {
+            context.reload();
+            fail("La configuration invalide doit être refusée");
+        } catch (BeanDefinitionException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Rechargement invalide (2 problème(s))"));
+            assertTrue(e.getMessage(), e.getMessage().contains("repoA"));
+            assertTrue(e.getMessage(), e.getMessage().contains("missing"));
+        }
+        assertSame(repoA, context.getBean("repoA"));
+        assertSame(serviceA, context.getBean("serviceA"));
+        assertSame(repoA, serviceA.getUserRepository());
+        assertEquals("jdbc:h2:mem:b", context.getBean("serviceB", UserService.class).getUserRepository().getDbUrl());
+    }
+
+    @Test
+    public void testFailedRecreationRestoresPreviousBeans() throws Exception {
+        Object repoA = context.getBean("repoA");
+        Object serviceA = context.getBean("serviceA");
+        Object serviceB = context.getBean("serviceB");
+        // Valide pour le refresh, mais le constructeur échoue à la recréation
+        write(repositories, "<beans><bean id=\"repoA\" class=\"" + FailingRepository.class.getName() + "\">"
+                + "<constructor><arg type=\"java.lang.String\" value=\"jdbc:h2:mem:fail\"/>"
+                + "<arg type=\"java.lang.String\" value=\"sa\"/><arg value=\"\"/></constructor></bean>"
+                + repository("repoB", "jdbc:h2:mem:b") + "</beans>");
+        try {
+            context.reload();
+            fail("L'échec de la recréation doit être signalé");
+        } catch (DependencyInjectionException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("repoA"));
+        }
+
+        assertSame(repoA, context.getBean("repoA"));
+        assertSame(serviceA, context.getBean("serviceA"));
+        assertSame(serviceB, context.getBean("serviceB"));
+        assertEquals(UserRepository.class, context.getBean("repoA").getClass());
+
+        writeRepositories("jdbc:h2:mem:fixed");
+        assertEquals(Arrays.asList("repoA", "serviceA"), context.reload());
+        assertEquals("jdbc:h2:mem:fixed", context.getBean("serviceA", UserService.class).getUserRepository().getDbUrl());
+    }
+
+    @Test
+    public void testWatcherReloadsModifiedImport() throws Exception {
+        context.enableReload();
+        UserRepository repoA = context.getBean("repoA", UserRepository.class);
+
+        writeRepositories("jdbc:h2:mem:watched");
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (context.getBean("repoA") == repoA && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertNull(context.getLastReloadError());
+        assertEquals("jdbc:h2:mem:watched", context.getBean("repoA", UserRepository.class).getDbUrl());
+    }
+
+    private void writeRepositories(String urlA) throws Exception {
+        write(repositories, "<beans>" + repository("repoA", urlA) + repository("repoB", "jdbc:h2:mem:b") + "</beans>");
+    }
+
+    private static void write(File file, String xml) throws Exception {
+        Files.write(file.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String repository(String id, String url) {
+        return "<bean id=\"" + id + "\" class=\"com.example.repository.UserRepository\">"
+                + "<constructor><arg type=\"java.lang.String\" value=\"" + url + "\"/>"
+                + "<arg type=\"java.lang.String\" value=\"sa\"/><arg value=\"\"/></constructor></bean>";
+    }
+
+    private static String service(String id, String repository) {
+        return "<bean id=\"" + id + "\" class=\"com.example.service.UserService\">"
+                + "<property name=\"userRepository\" ref=\"" + repository + "\"/></bean>";
+    }
+
+    public static class FailingRepository extends UserRepository {
+        public FailingRepository(String dbUrl, String username, String password) {
+            super(dbUrl, username, password);
+            throw new IllegalStateException("Connexion impossible: " + dbUrl);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.framework.test;
+
+import com.framework.annotations.Autowired;
+import com.framework.annotations.Component;
+import com.framework.annotations.Lazy;
+import com.framework.annotations.Qualifier;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.xml.XmlParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour l'initialisation paresseuse (@Lazy, lazy-init)
+ */
+public class LazyInitTest {
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        ExpensiveDao.CONSTRUCTIONS.set(0);
+        context = new ApplicationContext();
+    }
+
+    @Test
+    public void testLazyBeanNotCreatedAtRefresh() {
+        context.registerComponent(ExpensiveDao.class);
+        context.registerComponent(Metier.class);
+        context.refresh();
+
+        assertEquals("Le DAO paresseux ne doit pas être créé au démarrage", 0, ExpensiveDao.CONSTRUCTIONS.get());
+
+        Metier metier = context.getBean("metier", Metier.class);
+        assertTrue("Un proxy doit être injecté", Proxy.isProxyClass(metier.dao.getClass()));
+        assertEquals(0, ExpensiveDao.CONSTRUCTIONS.get());
+
+        assertEquals("data", metier.dao.getData());
+        assertEquals("data", metier.dao.getData());
+        assertEquals("Le DAO n'est créé qu'au premier appel, une seule fois", 1, ExpensiveDao.CONSTRUCTIONS.get());
+        assertSame(context.getBean("expensiveDao"), context.getBean("expensiveDao"));
+    }
+
+    @Test
+    public void testProxyIdentitySemantics() {
+        context.registerComponent(ExpensiveDao.class);
+        context.registerComponent(Metier.class);
+        Object proxy = context.getBean("metier", Metier.class).dao;
+
+        assertEquals("Un proxy est égal à lui-même", proxy, proxy);
+        Set<Object> set = new HashSet<>();
+        set.add(proxy);
+        assertTrue("Le proxy est retrouvé dans une collection par hachage", set.contains(proxy));
+        assertEquals("equals et hashCode ne créent pas la cible", 0, ExpensiveDao.CONSTRUCTIONS.get());
+        assertNotEquals(proxy, context.getBean("expensiveDao"));
+        assertEquals(context.getBean("expensiveDao").toString(), proxy.toString());
+    }
+
+    @Test
+    public void testLazyInjectionPointOnEagerBean() {
+        BeanDefinition daoDef = new BeanDefinition("expensiveDao", ExpensiveDao.class.getName());
+        daoDef.setBeanClass(ExpensiveDao.class);
+        daoDef.setInjectionMode(null);
+        context.registerBeanDefinition(daoDef);
+        context.registerComponent(LazyClient.class);
+
+        LazyClient client = context.getBean("lazyClient", LazyClient.class);
+        assertTrue("@Lazy sur le point d'injection donne un proxy", Proxy.isProxyClass(client.dao.getClass()));
+        assertEquals(0, ExpensiveDao.CONSTRUCTIONS.get());
+        assertEquals("data", client.dao.getData());
+        assertEquals(1, ExpensiveDao.CONSTRUCTIONS.get());
+    }
+
+    @Test
+    public void testLazyProxyForPackagePrivateInterface() {
+        context.registerComponent(HiddenDao.class);
+        context.registerComponent(HiddenClient.class);
+
+        HiddenClient client = context.getBean("hiddenClient", HiddenClient.class);
+        assertTrue(Proxy.isProxyClass(client.dao.getClass()));
+        assertEquals("hidden", client.dao.getData());
+    }
+
+    @Test
+    public void testExistingSingletonInjectedDirectly() {
+        context.registerComponent(ExpensiveDao.class);
+        context.registerComponent(Metier.class);
+        Object dao = context.getBean("expensiveDao");
+
+        Metier metier = context.getBean("metier", Metier.class);
+        assertSame("Cible déjà créée : pas de proxy", dao, metier.dao);
+    }
+
+    @Test
+    public void testXmlLazyInitAttribute() {
+        String xml = "<beans>"
+                + "<bean id=\"lazyDao\" class=\"" + ExpensiveDao.class.getName() + "\" lazy-init=\"true\"/>"
+                + "<bean id=\"eagerDao\" class=\"" + ExpensiveDao.class.getName() + "\"/>"
+                + "</beans>";
+        Map<String, BeanDefinition> definitions = XmlParser.parseXmlFromStream(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(definitions.get("lazyDao").isLazyInit());
+        assertFalse(definitions.get("eagerDao").isLazyInit());
+
+        context.getContainer().registerDefinitions(definitions);
+        context.refresh();
+        assertEquals("Seul le bean non paresseux est créé", 1, ExpensiveDao.CONSTRUCTIONS.get());
+    }
+
+    @After
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public interface Dao {
+        String getData();
+    }
+
+    /**
+     * DAO coûteux à construire
+     */
+    @Lazy
+    @Component("expensiveDao")
+    public static class ExpensiveDao implements Dao {
+        static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+        public ExpensiveDao() {
+            CONSTRUCTIONS.incrementAndGet();
+        }
+
+        @Override
+        public String getData() {
+            return "data";
+        }
+    }
+
+    @Component("metier")
+    public static class Metier {
+        @Autowired
+        @Qualifier("expensiveDao")
+        public Dao dao;
+    }
+
+    /**
+     * Interface non publique, hors du package du container
+     */
+    interface InternalDao {
+        String getData();
+    }
+
+    @Lazy
+    @Component("hiddenDao")
+    static class HiddenDao implements InternalDao {
+        @Override
+        public String getData() {
+            return "hidden";
+        }
+    }
+
+    @Component("hiddenClient")
+    public static class HiddenClient {
+        @Autowired
+        @Qualifier("hiddenDao")
+        InternalDao dao;
+    }
+
+    @Component("lazyClient")
+    public static class LazyClient {
+        @Lazy
+        @Autowired
+        @Qualifier("expensiveDao")
+        public Dao dao;
+    }
+}
@@ -0,0 +1,145 @@
+package com.framework.test;
+
+import com.example.service.UserService;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.exception.BeanDefinitionException;
+import com.framework.xml.DefinitionSnapshot;
+import com.framework.xml.XmlConfigLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour la configuration répartie sur plusieurs fichiers (<import>, ApplicationContext(String...))
+ */
+public class MultiFileConfigTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() throws Exception {
+        System.setProperty(DefinitionSnapshot.DIRECTORY_PROPERTY, folder.newFolder("snapshots").getPath());
+    }
+
+    @Test
+    public void testImportsAndMultipleFiles() throws Exception {
+        write("modules/repository.xml", "<beans>" + repository("userRepository") + "</beans>");
+        File services = write("services.xml", "<beans><import resource=\"modules/repository.xml\"/>"
+                + "<bean id=\"userService\" class=\"com.example.service.UserService\">"
+                + "<property name=\"userRepository\" ref=\"userRepository\"/></bean></beans>");
+        File users = write("users.xml", "<beans><bean id=\"user\" class=\"com.example.model.User\"/></beans>");
+
+        context = new ApplicationContext(services.getPath(), users.getPath());
+
+        UserService service = context.getBean("userService", UserService.class);
+        assertNotNull(service.getUserRepository());
+        assertTrue(context.containsBean("user"));
+    }
+
+    @Test
+    public void testStartupExecutorParsesImports() throws Exception {
+        write("modules/repository.xml", "<beans>" + repository("userRepository") + "</beans>");
+        File services = write("services.xml", "<beans><import resource=\"modules/repository.xml\"/>"
+                + "<bean id=\"userService\" class=\"com.example.service.UserService\">"
+                + "<property name=\"userRepository\" ref=\"userRepository\"/></bean></beans>");
+
+        // Executor direct : les imports sont soumis depuis le parsing de services.xml
+        AtomicInteger tasks = new AtomicInteger();
+        Executor direct = task -> {
+            tasks.incrementAndGet();
+            task.run();
+        };
+        context = new ApplicationContext(direct, services.getPath());
+
+        assertEquals("Chaque fichier est parsé par l'executor du contexte", 2, tasks.get());
+        context.refresh();
+        assertNotNull(context.getBean("userService", UserService.class).getUserRepository());
+    }
+
+    @Test
+    public void testMergeOrderIsDeterministic() throws Exception {
+        List<File> files = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int f = 0; f < 12; f++) {
+            StringBuilder xml = new StringBuilder("<beans>");
+            for (int b = 0; b < 50; b++) {
+                String id = "repo" + f + "_" + b;
+                xml.append(repository(id));
+                expected.add(id);
+            }
+            files.add(write("module" + f + ".xml", xml.append("</beans>").toString()));
+        }
+
+        for (int run = 0; run < 3; run++) {
+            Map<String, BeanDefinition> definitions = XmlConfigLoader.load(files, null, null);
+            assertEquals(expected, new ArrayList<>(definitions.keySet()));
+        }
+    }
+
+    @Test
+    public void testDuplicateIdsAcrossFilesReported() throws Exception {
+        File a = write("a.xml", "<beans>" + repository("shared") + repository("other") + "</beans>");
+        File b = write("b.xml", "<beans>" + repository("shared") + repository("other") + "</beans>");
+        try {
+            XmlConfigLoader.load(Arrays.asList(a, b), null, null);
+            fail("Les doublons doivent être détectés");
+        } catch (BeanDefinitionException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("shared"));
+            assertTrue(e.getMessage(), e.getMessage().contains("other"));
+        }
+    }
+
+    @Test
+    public void testImportCycleLoadedOnce() throws Exception {
+        File a = write("a.xml", "<beans><import resource=\"b.xml\"/>" + repository("repoA") + "</beans>");
+        write("b.xml", "<beans><import resource=\"a.xml\"/>" + repository("repoB") + "</beans>");
+
+        Map<String, BeanDefinition> definitions = XmlConfigLoader.load(Arrays.asList(a), null, null);
+        assertEquals(Arrays.asList("repoB", "repoA"), new ArrayList<>(definitions.keySet()));
+    }
+
+    @Test(expected = BeanDefinitionException.class)
+    public void testMissingImport() throws Exception {
+        File a = write("a.xml", "<beans><import resource=\"absent.xml\"/></beans>");
+        XmlConfigLoader.load(Arrays.asList(a), null, null);
+    }
+
+    private File write(String name, String xml) throws Exception {
+        File file = new File(folder.getRoot(), name);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String repository(String id) {
+        return "<bean id=\"" + id + "\" class=\"com.example.repository.UserRepository\">"
+                + "<constructor><arg type=\"java.lang.String\" value=\"jdbc:h2:mem:" + id + "\"/>"
+                + "<arg type=\"java.lang.String\" value=\"sa\"/><arg value=\"\"/></constructor></bean>";
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(DefinitionSnapshot.DIRECTORY_PROPERTY);
+        if (context != null) {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.framework.test;
+
+import com.framework.annotations.Component;
+import com.framework.annotations.Scope;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanPool;
+import com.framework.container.BeanScope;
+import com.framework.container.Pooled;
+import com.framework.container.PooledScope;
+import com.framework.exception.DependencyInjectionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour la portée "pooled"
+ */
+public class PooledScopeTest {
+
+    private ApplicationContext context;
+    private PooledScope scope;
+
+    @Before
+    public void setup() {
+        Buffer.CREATED.set(0);
+        context = new ApplicationContext();
+        context.registerComponent(Buffer.class);
+        scope = (PooledScope) context.getScope(BeanScope.POOLED);
+    }
+
+    @Test
+    public void testSteadyStateReusesInstances() {
+        for (int i = 0; i < 1_000; i++) {
+            try (Pooled<Buffer> buffer = context.borrow("buffer", Buffer.class)) {
+                buffer.get().content.append(i);
+            }
+        }
+        BeanPool pool = scope.getPool("buffer");
+        assertEquals(1, Buffer.CREATED.get());
+        assertEquals(1, pool.getMisses());
+        assertEquals(999, pool.getHits());
+    }
+
+    @Test
+    public void testResetCallbackAndCapacity() {
+        scope.configure("buffer", 2, instance -> ((Buffer) instance).content.setLength(0));
+
+        Buffer a = (Buffer) context.getBean("buffer");
+        Buffer b = (Buffer) context.getBean("buffer");
+        Buffer c = (Buffer) context.getBean("buffer");
+        assertNotSame(a, b);
+        assertEquals(3, Buffer.CREATED.get());
+
+        a.content.append("sale");
+        context.release("buffer", a);
+        context.release("buffer", b);
+        context.release("buffer", c); // Pool plein
+
+        BeanPool pool = scope.getPool("buffer");
+        assertEquals(2, pool.getIdle());
+        assertEquals(1, pool.getDiscarded());
+        assertEquals(0, a.content.length());
+    }
+
+    @Test
+    public void testConcurrentBorrowNeverSharesAnInstance() throws Exception {
+        int threads = 8;
+        scope.configure("buffer", threads, null);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 20_000; i++) {
+                    try (Pooled<Buffer> buffer = context.borrow("buffer", Buffer.class)) {
+                        assertTrue("Instance empruntée deux fois", buffer.get().inUse.compareAndSet(false, true));
+                        buffer.get().inUse.set(false);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        BeanPool pool = scope.getPool("buffer");
+        assertEquals(threads * 20_000L, pool.getHits() + pool.getMisses());
+        assertEquals(Buffer.CREATED.get(), pool.getMisses());
+        // Instances vivantes : au plus la capacité (libres) plus une par thread (empruntées)
+        assertTrue(Buffer.CREATED.get() - pool.getDiscarded() <= 2 * threads);
+    }
+
+    @Test(expected = DependencyInjectionException.class)
+    public void testReleaseOfNonPooledBean() {
+        context.registerSingleton("plain", new Object());
+        context.release("plain", new Object());
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    @Component("buffer")
+    @Scope(BeanScope.POOLED)
+    public static class Buffer {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        final StringBuilder content = new StringBuilder();
+        final AtomicBoolean inUse = new AtomicBoolean();
+
+        public Buffer() {
+            CREATED.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.framework.test;
+
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import com.framework.exception.DependencyInjectionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour la création de prototypes par constructeur préparé (arguments et références compilés)
+ */
+public class PrototypeCreationTest {
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+
+        BeanDefinition engine = new BeanDefinition("engine", Engine.class.getName());
+        context.registerBeanDefinition(engine);
+
+        BeanDefinition car = new BeanDefinition("car", Car.class.getName());
+        car.setSingleton(false);
+        car.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        car.addConstructorArg(null, "engine", (Class<?>) null);
+        car.addConstructorArg("120", null, "java.lang.Integer"); // Paramètre primitif int
+        context.registerBeanDefinition(car);
+    }
+
+    @Test
+    public void testPrototypeUsesPreparedArguments() {
+        Car first = (Car) context.getBean("car");
+        Car second = (Car) context.getBean("car");
+
+        assertNotSame(first, second);
+        assertEquals(120, first.power);
+        assertSame(context.getBean("engine"), first.engine);
+        assertSame(first.engine, second.engine);
+    }
+
+    @Test
+    public void testSingletonReferenceFollowsReplacement() {
+        Car before = (Car) context.getBean("car");
+        Engine replacement = new Engine();
+        context.registerSingleton("engine", replacement);
+
+        Car after = (Car) context.getBean("car");
+        assertNotSame(before.engine, after.engine);
+        assertSame(replacement, after.engine);
+    }
+
+    @Test
+    public void testPrototypeReferenceNotCached() {
+        BeanDefinition part = new BeanDefinition("part", Engine.class.getName());
+        part.setSingleton(false);
+        context.registerBeanDefinition(part);
+
+        BeanDefinition car = new BeanDefinition("kit", Car.class.getName());
+        car.setSingleton(false);
+        car.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        car.addConstructorArg(null, "part", (Class<?>) null);
+        car.addConstructorArg("1", null, int.class);
+        context.registerBeanDefinition(car);
+
+        assertNotSame(((Car) context.getBean("kit")).engine, ((Car) context.getBean("kit")).engine);
+    }
+
+    @Test
+    public void testNoCompatibleConstructor() {
+        BeanDefinition broken = new BeanDefinition("broken", Car.class.getName());
+        broken.setSingleton(false);
+        broken.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        broken.addConstructorArg("abc", null, String.class);
+        context.registerBeanDefinition(broken);
+        try {
+            context.getBean("broken");
+            fail("Aucun constructeur ne prend une seule String");
+        } catch (DependencyInjectionException e) {
+            assertTrue(e.getCause().getMessage().contains("Aucun constructeur compatible"));
+        }
+    }
+
+    @Test
+    public void testConstructorModeWithoutArgumentsUsesDefaultConstructor() {
+        BeanDefinition engine = new BeanDefinition("engine", Engine.class.getName());
+        engine.setSingleton(false);
+        engine.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        context.registerBeanDefinition(engine);
+
+        assertTrue(context.getBean("engine") instanceof Engine);
+    }
+
+    @Test
+    public void testNoFallbackToDefaultConstructorWithArguments() {
+        // Engine a un constructeur par défaut, mais aucun qui accepte une String
+        BeanDefinition engine = new BeanDefinition("engine", Engine.class.getName());
+        engine.setSingleton(false);
+        engine.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        engine.addConstructorArg("V8", null, String.class);
+        context.registerBeanDefinition(engine);
+        try {
+            context.getBean("engine");
+            fail("Les arguments ne doivent pas être ignorés au profit du constructeur par défaut");
+        } catch (DependencyInjectionException e) {
+            assertTrue(e.getCause().getMessage().contains("Aucun constructeur compatible pour le bean: engine"));
+        }
+    }
+
+    @Test
+    public void testMutatedPrototypeDefinitionIsRecompiled() {
+        BeanDefinition gauge = new BeanDefinition("gauge", Gauge.class.getName());
+        gauge.setSingleton(false);
+        gauge.setInjectionMode(InjectionMode.SETTER);
+        gauge.addProperty("label", "oil", null, null);
+        context.registerBeanDefinition(gauge);
+        assertEquals("oil", ((Gauge) context.getBean("gauge")).label);
+
+        gauge.addProperty("label", "fuel", null, null);
+        gauge.addProperty("max", "80", null, null);
+        Gauge updated = (Gauge) context.getBean("gauge");
+        assertEquals("fuel", updated.label);
+        assertEquals(80, updated.max);
+
+        gauge.setInjectionMode(InjectionMode.FIELD);
+        gauge.addProperty("label", "water", null, null);
+        assertEquals("water", ((Gauge) context.getBean("gauge")).label);
+
+        gauge.setBeanClass(DigitalGauge.class);
+        assertTrue(context.getBean("gauge") instanceof DigitalGauge);
+    }
+
+    @Test
+    public void testAddedConstructorArgumentReselectsConstructor() {
+        BeanDefinition car = new BeanDefinition("roadster", Car.class.getName());
+        car.setSingleton(false);
+        car.setInjectionMode(InjectionMode.CONSTRUCTOR);
+        car.addConstructorArg(null, "engine", (Class<?>) null);
+        context.registerBeanDefinition(car);
+        assertEquals(Car.DEFAULT_POWER, ((Car) context.getBean("roadster")).power);
+
+        car.addConstructorArg("90", null, int.class);
+        assertEquals(90, ((Car) context.getBean("roadster")).power);
+    }
+
+    @Test
+    public void testErrorsAreNotWrapped() {
+        BeanDefinition broken = new BeanDefinition("broken", FailingEngine.class.getName());
+        broken.setSingleton(false);
+        context.registerBeanDefinition(broken);
+        try {
+            context.getBean("broken");
+            fail("Une Error doit être propagée");
+        } catch (AssertionError e) {
+            assertEquals("moteur cassé", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCheckedSetterExceptionIsWrapped() {
+        BeanDefinition gauge = new BeanDefinition("gauge", CheckedGauge.class.getName());
+        gauge.setSingleton(false);
+        gauge.setInjectionMode(InjectionMode.SETTER);
+        gauge.addProperty("label", "oil", null, null);
+        context.registerBeanDefinition(gauge);
+        try {
+            context.getBean("gauge");
+            fail("L'exception du setter doit être signalée");
+        } catch (DependencyInjectionException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            assertTrue(cause instanceof IOException);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    public static class Engine {
+    }
+
+    public static class Gauge {
+        String label;
+        int max;
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public void setMax(int max) {
+            this.max = max;
+        }
+    }
+
+    public static class DigitalGauge extends Gauge {
+    }
+
+    public static class CheckedGauge {
+        public void setLabel(String label) throws IOException {
+            throw new IOException("jauge illisible: " + label);
+        }
+    }
+
+    public static class FailingEngine {
+        public FailingEngine() {
+            throw new AssertionError("moteur cassé");
+        }
+    }
+
+    public static class Car {
+        static final int DEFAULT_POWER = 70;
+
+        final Engine engine;
+        final int power;
+
+        public Car(Engine engine) {
+            this(engine, DEFAULT_POWER);
+        }
+
+        public Car(Engine engine, int power) {
+            this.engine = engine;
+            this.power = power;
+        }
+    }
+}
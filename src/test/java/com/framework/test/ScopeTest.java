@@ -0,0 +1,177 @@
+package com.framework.test;
+
+import com.framework.annotations.Component;
+import com.framework.annotations.Scope;
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.BeanScope;
+import com.framework.container.ContextScope;
+import com.framework.container.ScopeContext;
+import com.framework.container.ThreadScope;
+import com.framework.exception.DependencyInjectionException;
+import com.framework.xml.XmlParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour les portées thread, request et unit-of-work
+ */
+public class ScopeTest {
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+        context.registerComponent(ThreadState.class);
+        context.registerComponent(RequestState.class);
+        context.registerComponent(WorkState.class);
+    }
+
+    @Test
+    public void testThreadScope() throws Exception {
+        ThreadState first = context.getBean(ThreadState.class);
+        assertSame(first, context.getBean(ThreadState.class));
+
+        Object other = CompletableFuture.supplyAsync(() -> context.getBean(ThreadState.class)).get();
+        assertNotSame(first, other);
+
+        ((ThreadScope) context.getScope(BeanScope.THREAD)).end();
+        assertTrue(first.closed);
+        assertNotSame(first, context.getBean(ThreadState.class));
+    }
+
+    @Test
+    public void testRequestScope() {
+        ContextScope requests = (ContextScope) context.getScope(BeanScope.REQUEST);
+        try {
+            context.getBean(RequestState.class);
+            fail("Hors requête, le bean ne doit pas être disponible");
+        } catch (DependencyInjectionException e) {
+            assertTrue(e.getMessage().contains("request"));
+        }
+
+        ScopeContext request = requests.begin();
+        RequestState first = context.getBean(RequestState.class);
+        assertSame(first, context.getBean(RequestState.class));
+
+        ScopeContext nested = requests.begin();
+        assertNotSame(first, context.getBean(RequestState.class));
+        nested.close();
+        assertSame(first, context.getBean(RequestState.class));
+
+        request.close();
+        assertTrue(request.isClosed());
+        assertTrue(first.closed);
+
+        ScopeContext next = requests.begin();
+        assertNotSame(first, context.getBean(RequestState.class));
+        next.close();
+    }
+
+    @Test
+    public void testUnitOfWorkSharedAcrossThreads() throws Exception {
+        ContextScope units = (ContextScope) context.getScope(BeanScope.UNIT_OF_WORK);
+        ScopeContext unit = units.open();
+
+        WorkState[] seen = new WorkState[4];
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[seen.length];
+        for (int i = 0; i < seen.length; i++) {
+            int index = i;
+            workers[i] = CompletableFuture.runAsync(() -> {
+                ContextScope.Attachment attachment = units.attach(unit);
+                try {
+                    seen[index] = context.getBean(WorkState.class);
+                } finally {
+                    attachment.close();
+                }
+            });
+        }
+        CompletableFuture.allOf(workers).get();
+
+        for (WorkState state : seen) {
+            assertSame(seen[0], state);
+        }
+        assertEquals(1, WorkState.CREATED.get());
+
+        unit.close();
+        assertTrue(seen[0].closed);
+        ContextScope.Attachment attachment = units.attach(unit);
+        try {
+            context.getBean(WorkState.class);
+            fail("Une unité terminée ne doit plus fournir de beans");
+        } catch (DependencyInjectionException e) {
+            // attendu
+        } finally {
+            attachment.close();
+        }
+    }
+
+    @Test
+    public void testXmlScopeAttribute() {
+        String xml = "<beans><bean id=\"perThread\" class=\"com.example.model.User\" scope=\"thread\"/>"
+                + "<bean id=\"each\" class=\"com.example.model.User\" scope=\"prototype\"/></beans>";
+        Map<String, BeanDefinition> definitions =
+                XmlParser.parseXmlFromStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(BeanScope.THREAD, definitions.get("perThread").getScope());
+        assertFalse(definitions.get("each").isSingleton());
+        assertEquals(BeanDefinition.SCOPE_PROTOTYPE, definitions.get("each").getScope());
+
+        context.getContainer().registerDefinitions(definitions);
+        assertSame(context.getBean("perThread"), context.getBean("perThread"));
+        assertNotSame(context.getBean("each"), context.getBean("each"));
+    }
+
+    @Test(expected = DependencyInjectionException.class)
+    public void testUnknownScope() {
+        BeanDefinition definition = new BeanDefinition("conversation", "com.example.model.User");
+        definition.setScope("conversation");
+        context.registerBeanDefinition(definition);
+        context.getBean("conversation");
+    }
+
+    @After
+    public void tearDown() {
+        ((ThreadScope) context.getScope(BeanScope.THREAD)).end();
+        WorkState.CREATED.set(0);
+        context.close();
+    }
+
+    public static class Closeable implements AutoCloseable {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Component("threadState")
+    @Scope(BeanScope.THREAD)
+    public static class ThreadState extends Closeable {
+    }
+
+    @Component("requestState")
+    @Scope(BeanScope.REQUEST)
+    public static class RequestState extends Closeable {
+    }
+
+    @Component("workState")
+    @Scope(BeanScope.UNIT_OF_WORK)
+    public static class WorkState extends Closeable {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public WorkState() {
+            CREATED.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.framework.test;
+
+import com.framework.container.ApplicationContext;
+import com.framework.container.BeanDefinition;
+import com.framework.container.InjectionMode;
+import com.framework.container.StartupTimeline;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests pour la chronologie du démarrage et son chemin critique
+ */
+public class StartupTimelineTest {
+
+    private ApplicationContext context;
+
+    @Before
+    public void setup() {
+        context = new ApplicationContext();
+
+        // leaf est paresseux : il est créé pendant la création de middle, qui l'attend
+        BeanDefinition leaf = new BeanDefinition("leaf", Slow.class.getName());
+        leaf.setLazyInit(true);
+        leaf.setInjectionMode(InjectionMode.SETTER);
+        leaf.addProperty("delay", "40", null, null);
+        context.registerBeanDefinition(leaf);
+
+        context.registerBeanDefinition(slow("middle", "10", "leaf"));
+        context.registerBeanDefinition(slow("top", "5", "middle"));
+        context.registerBeanDefinition(slow("other", "5", null));
+        context.refresh();
+    }
+
+    @Test
+    public void testDependencyWaitSeparatedFromOwnTime() {
+        StartupTimeline timeline = context.getStartupTimeline();
+        StartupTimeline.BeanTiming middle = timeline.getTiming("middle");
+        StartupTimeline.BeanTiming leaf = timeline.getTiming("leaf");
+
+        assertNotNull(leaf);
+        assertTrue(middle.getStartNanos() <= leaf.getStartNanos());
+        assertTrue(middle.getEndNanos() >= leaf.getEndNanos());
+        assertTrue(middle.getDependencyNanos() >= leaf.getDurationNanos());
+        assertTrue(middle.getOwnNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(middle.getOwnNanos() < TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(Arrays.asList("leaf"), middle.getDependencies());
+    }
+
+    @Test
+    public void testCriticalPath() {
+        StartupTimeline timeline = context.getStartupTimeline();
+        List<String> path = new ArrayList<>();
+        for (StartupTimeline.BeanTiming timing : timeline.getCriticalPath()) {
+            path.add(timing.getBeanId());
+        }
+
+        assertEquals(Arrays.asList("leaf", "middle", "top"), path);
+        assertTrue(timeline.getCriticalPathNanos() >= TimeUnit.MILLISECONDS.toNanos(55));
+        assertTrue(timeline.getCriticalPathNanos() <= timeline.getTotalNanos());
+    }
+
+    @Test
+    public void testExports() {
+        StartupTimeline timeline = context.getStartupTimeline();
+
+        String json = timeline.toJson();
+        assertTrue(json.contains("\"criticalPath\":[\"leaf\",\"middle\",\"top\"]"));
+        assertTrue(json.contains("\"id\":\"other\""));
+
+        String tree = timeline.toTree();
+        assertTrue(tree.contains("* top"));
+        assertTrue(tree.contains("    * leaf"));
+        assertTrue(tree.contains("- other"));
+    }
+
+    private static BeanDefinition slow(String id, String delay, String dependency) {
+        BeanDefinition definition = new BeanDefinition(id, Slow.class.getName());
+        definition.setInjectionMode(InjectionMode.SETTER);
+        definition.addProperty("delay", delay, null, null);
+        if (dependency != null) {
+            definition.addProperty("dependency", null, dependency, null);
+        }
+        return definition;
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Bean dont l'injection dure le délai donné
+     */
+    public static class Slow {
+        private Slow dependency;
+
+        public void setDelay(long delay) throws InterruptedException {
+            Thread.sleep(delay);
+        }
+
+        public void setDependency(Slow dependency) {
+            this.dependency = dependency;
+        }
+    }
+}
@@ -5,9 +5,21 @@ import com.framework.container.BeanDefinition;
 import com.framework.container.InjectionMode;
 import com.example.repository.UserRepository;
 import com.example.service.UserService;
+import com.framework.container.ClassResolver;
+import com.framework.exception.BeanDefinitionException;
+import com.framework.xml.JaxbXmlParser;
+import com.framework.xml.XmlParser;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.Assert.*;
 
 /**
@@ -135,6 +147,85 @@ public class XmlInjectionTest {
         assertNotNull("Le service doit quand même être créé", service);
     }
 
+    @Test
+    public void testStreamingParserMatchesJaxb() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<beans>"
+                + "<bean id=\"userRepository\" class=\"com.example.repository.UserRepository\" lazy-init=\"true\">"
+                + "<constructor><arg type=\"java.lang.String\" value=\"jdbc:h2:mem:xml\"/>"
+                + "<arg type=\"java.lang.String\" value=\"sa\"/><arg value=\"\"/></constructor></bean>"
+                + "<!-- commentaire -->"
+                + "<bean id=\"userService\" class=\"com.example.service.UserService\">"
+                + "<property name=\"userRepository\" ref=\"userRepository\"/>"
+                + "<property name=\"maxAttempts\" value=\"7\"/></bean>"
+                + "</beans>";
+
+        Map<String, BeanDefinition> stax = XmlParser.parseXmlFromStream(stream(xml));
+        Map<String, BeanDefinition> jaxb = JaxbXmlParser.parseXmlFromStream(stream(xml));
+
+        assertEquals(jaxb.keySet(), stax.keySet());
+        for (String id : jaxb.keySet()) {
+            BeanDefinition expected = jaxb.get(id);
+            BeanDefinition actual = stax.get(id);
+            assertFalse("Aucune classe chargée pendant le parsing", actual.isResolved());
+            ClassResolver.resolve(actual);
+            assertEquals(expected.getBeanClass(), actual.getBeanClass());
+            assertEquals(expected.getInjectionMode(), actual.getInjectionMode());
+            assertEquals(expected.isLazyInit(), actual.isLazyInit());
+            assertEquals(expected.getConstructorArgValues(), actual.getConstructorArgValues());
+            assertEquals(expected.getConstructorArgRefs(), actual.getConstructorArgRefs());
+            assertEquals(expected.getConstructorArgTypes(), actual.getConstructorArgTypes());
+            assertEquals(expected.getPropertyValues(), actual.getPropertyValues());
+            assertEquals(expected.getPropertyRefs(), actual.getPropertyRefs());
+        }
+
+        context.getContainer().registerDefinitions(stax);
+        UserService service = context.getBean("userService", UserService.class);
+        assertEquals(7, service.getMaxAttempts());
+        assertEquals("jdbc:h2:mem:xml", service.getUserRepository().getDbUrl());
+    }
+
+    @Test
+    public void testStreamingParserEmitsEachBean() {
+        StringBuilder xml = new StringBuilder("<beans>");
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            xml.append("<bean id=\"service").append(i).append("\" class=\"com.example.service.UserService\">")
+               .append("<property name=\"maxAttempts\" value=\"").append(i).append("\"/></bean>");
+        }
+        xml.append("</beans>");
+
+        List<String> ids = new ArrayList<>();
+        XmlParser.parse(stream(xml.toString()), "generated", definition -> ids.add(definition.getId()));
+        assertEquals(count, ids.size());
+        assertEquals("Ordre du document conservé", "service" + (count - 1), ids.get(count - 1));
+    }
+
+    @Test
+    public void testClassResolutionDeferredAndErrorsReportedTogether() {
+        String xml = "<beans>"
+                + "<bean id=\"good\" class=\"com.example.model.User\"/>"
+                + "<bean id=\"missing1\" class=\"com.example.Missing1\"/>"
+                + "<bean id=\"missing2\" class=\"com.example.service.UserService\">"
+                + "<constructor><arg type=\"com.example.MissingType\" value=\"x\"/></constructor></bean>"
+                + "</beans>";
+        // Parsing sans erreur : les classes ne sont pas encore chargées
+        context.getContainer().registerDefinitions(XmlParser.parseXmlFromStream(stream(xml)));
+        assertNotNull(context.getBean("good"));
+
+        try {
+            context.refresh();
+            fail("Les classes introuvables doivent être signalées au refresh");
+        } catch (BeanDefinitionException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("com.example.Missing1"));
+            assertTrue(e.getMessage(), e.getMessage().contains("com.example.MissingType"));
+            assertEquals(2, e.getSuppressed().length);
+        }
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
     @After
     public void tearDown() {
         if (context != null) {
@@ -18,6 +18,9 @@ public class Bean {
     
     @XmlAttribute(name = "class")
     private String className;
+
+    @XmlAttribute(name = "lazy-init")
+    private Boolean lazyInit;
     
     @XmlElement(name = "constructor")
     private ConstructorDef constructor;
@@ -46,6 +49,14 @@ public class Bean {
         this.class_ = class_;
     }
 
+    public boolean isLazyInit() {
+        return lazyInit != null && lazyInit;
+    }
+
+    public void setLazyInit(Boolean lazyInit) {
+        this.lazyInit = lazyInit;
+    }
+
     public ConstructorDef getConstructor() {
         return constructor;
     }